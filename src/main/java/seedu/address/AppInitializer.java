@@ -0,0 +1,146 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.metrics.MetricsRegistry;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.FileAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Builds the config, preferences and storage that the application is started with, for both the GUI and the
+ * headless runner.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code StorageManager} for the address book file in {@code userPrefs}, journaled if {@code config}
+     * enables it. Saves are written on a background thread only if {@code isAsync} is true.
+     */
+    public static StorageManager initStorage(Config config, UserPrefsStorage userPrefsStorage,
+            ReadOnlyUserPrefs userPrefs, boolean isAsync) {
+        FileAddressBookStorage fileAddressBookStorage = initFileStorage(config, userPrefs);
+        AddressBookStorage addressBookStorage = config.isJournalEnabled()
+                ? new JournaledAddressBookStorage(fileAddressBookStorage, config.getJournalSyncIntervalMillis(),
+                        config.getJournalCompactionThresholdBytes())
+                : fileAddressBookStorage;
+        return isAsync
+                ? new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveDelayMillis())
+                : new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    /**
+     * Starts writing {@code metrics} to the metrics file periodically, if {@code config} enables it.
+     */
+    public static void initMetricsDump(Config config, MetricsRegistry metrics) {
+        if (config.getMetricsDumpIntervalMillis() > 0) {
+            logger.info("Writing metrics to " + config.getMetricsFilePath() + " every "
+                    + config.getMetricsDumpIntervalMillis() + " ms");
+            metrics.startDump(config.getMetricsFilePath(), config.getMetricsDumpIntervalMillis());
+        }
+    }
+
+    /**
+     * Returns the storage of the address book file in {@code userPrefs}, which writes the format set in
+     * {@code userPrefs}. Either storage reads files in both formats.
+     */
+    private static FileAddressBookStorage initFileStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, config.getDataFileBackupCount());
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath, config.isCompactDataFile(), config.getDataFileBackupCount());
+        }
+    }
+}
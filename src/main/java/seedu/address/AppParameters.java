@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +16,14 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The batch script path that stands for the standard input. */
+    public static final Path STANDARD_INPUT = Paths.get("-");
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchScriptPath;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,23 +33,86 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run without the GUI, or null if the GUI should be started.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns the number of commands run in batch mode between saves, or 0 to save only after the last command.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns true if the application should run a batch script instead of starting the GUI.
+     */
+    public boolean isHeadless() {
+        return batchScriptPath != null;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, in which named parameters are given as {@code --name=value}
+     * in the same way as for {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"), "config"));
+        appParameters.setBatchScriptPath(parsePath(namedParameters.get("batch"), "batch script"));
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null) {
+            try {
+                appParameters.setCheckpointInterval(Integer.parseUnsignedInt(checkpointParameter));
+            } catch (NumberFormatException nfe) {
+                logger.warning("Invalid checkpoint interval " + checkpointParameter
+                        + ". Saving only after the last command.");
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
         return appParameters;
     }
 
+    private static Path parsePath(String pathParameter, String description) {
+        if (pathParameter == null) {
+            return null;
+        }
+        if (!FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + description + " path " + pathParameter + ". Ignoring it.");
+            return null;
+        }
+        return Paths.get(pathParameter);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +125,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchScriptPath, otherAppParameters.batchScriptPath)
+                && checkpointInterval == otherAppParameters.checkpointInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, checkpointInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchScriptPath", batchScriptPath)
+                .add("checkpointInterval", checkpointInterval)
                 .toString();
     }
 }
@@ -0,0 +1,225 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.metrics.MetricsRegistry;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands against the address book without starting the GUI.
+ *
+ * The script holds one command per line; blank lines and lines starting with {@code #} are skipped. A command that
+ * fails is reported with its line number and the script carries on. The address book is saved once after the last
+ * command, and also after every checkpoint interval of commands if one is given. At the end, the throughput and the
+ * metrics report of the model, with the latency of each phase of each command word, are printed.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_DATA_FILE_NOT_LOADED = "Data file at %1$s could not be loaded, so no commands"
+            + " were run: %2$s";
+    public static final String MESSAGE_BACKUP_RECOVERED = "Data file at %1$s could not be loaded, so the previous"
+            + " version %2$s is used instead.";
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read the batch script: %1$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands (%2$d failed) in %3$.3f s: %4$.1f commands/s";
+    public static final String MESSAGE_SAVES = "Saved %1$d times in %2$.3f ms";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final InputStream in;
+    private final PrintStream out;
+
+    private int commandCount;
+    private int failureCount;
+    private int saveCount;
+    private long saveNanos;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs the batch script in {@code appParameters}, reading it from {@code in}
+     * if it is {@link AppParameters#STANDARD_INPUT}, and reports to {@code out}.
+     */
+    public HeadlessApp(AppParameters appParameters, InputStream in, PrintStream out) {
+        requireNonNull(appParameters);
+        requireNonNull(appParameters.getBatchScriptPath());
+        requireNonNull(in);
+        requireNonNull(out);
+        this.appParameters = appParameters;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * Runs the batch script and returns the exit status: {@link #EXIT_SUCCESS} if every command succeeded,
+     * {@link #EXIT_COMMAND_FAILED} if some did not, or {@link #EXIT_ERROR} if the script could not be run to the end
+     * or its changes could not be saved.
+     */
+    public int run() {
+        logger.info("=============================[ Running AddressBook batch ]===========================");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        // Saves are already batched here, so they are written synchronously to report any failure.
+        StorageManager storage = AppInitializer.initStorage(config, userPrefsStorage, userPrefs, false);
+        try {
+            return run(config, storage, userPrefs);
+        } finally {
+            try {
+                storage.close();
+            } catch (IOException e) {
+                logger.severe("Failed to finish writing data file " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    private int run(Config config, StorageManager storage, UserPrefs userPrefs) {
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.readAddressBook();
+        } catch (DataLoadingException e) {
+            // Running the script over an empty address book would overwrite the data file, so stop instead.
+            out.println(String.format(MESSAGE_DATA_FILE_NOT_LOADED, storage.getAddressBookFilePath(),
+                    e.getMessage()));
+            return EXIT_ERROR;
+        }
+
+        storage.getRecoveredBackupPath().ifPresent(backupPath ->
+                out.println(String.format(MESSAGE_BACKUP_RECOVERED, storage.getAddressBookFilePath(), backupPath)));
+        ModelManager model = new ModelManager(addressBook.orElseGet(AddressBook::new), userPrefs);
+        // A missing data file is created, and a previous version recovered in place of a damaged one is written back.
+        boolean isSaveNeeded = !addressBook.isPresent() || storage.getRecoveredBackupPath().isPresent();
+        Logic logic = new LogicManager(model, storage, false, isSaveNeeded);
+        logic.setAutoSave(false);
+        AppInitializer.initMetricsDump(config, model.getMetrics());
+
+        long startNanos = System.nanoTime();
+        boolean isScriptRead = runScript(logic);
+        boolean isSaved = save(logic, -1);
+        printSummary(System.nanoTime() - startNanos, model.getMetrics());
+        model.getMetrics().stopDump();
+
+        if (!isScriptRead || !isSaved) {
+            return EXIT_ERROR;
+        }
+        return failureCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Executes the commands in the batch script until its end or an exit command.
+     * Returns false if the script could not be read.
+     */
+    private boolean runScript(Logic logic) {
+        int checkpointInterval = appParameters.getCheckpointInterval();
+        try (BufferedReader reader = openScript()) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                CommandResult result = execute(logic, commandText, lineNumber);
+                if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                    save(logic, lineNumber);
+                }
+                if (result != null && result.isExit()) {
+                    break;
+                }
+            }
+            return true;
+        } catch (IOException ioe) {
+            out.println(String.format(MESSAGE_SCRIPT_NOT_READ, ioe));
+            return false;
+        }
+    }
+
+    private BufferedReader openScript() throws IOException {
+        if (appParameters.getBatchScriptPath().equals(AppParameters.STANDARD_INPUT)) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(appParameters.getBatchScriptPath(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Executes {@code commandText}, whose latency {@code logic} records in the metrics of the model.
+     * Returns the result, or null if the command failed.
+     */
+    private CommandResult execute(Logic logic, String commandText, int lineNumber) {
+        commandCount++;
+        try {
+            return logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failureCount++;
+            out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Saves the address book if it has been modified. Returns false if it could not be saved.
+     *
+     * @param lineNumber the line of the script that the save follows, or -1 for the save after the last command.
+     */
+    private boolean save(Logic logic, int lineNumber) {
+        long startNanos = System.nanoTime();
+        try {
+            logic.saveAddressBook();
+            return true;
+        } catch (CommandException ce) {
+            out.println(lineNumber < 0 ? ce.getMessage()
+                    : String.format(MESSAGE_COMMAND_FAILED, lineNumber, ce.getMessage()));
+            return false;
+        } finally {
+            saveCount++;
+            saveNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    private void printSummary(long elapsedNanos, MetricsRegistry metrics) {
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        double throughput = elapsedNanos == 0 ? 0 : commandCount / elapsedSeconds;
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, failureCount, elapsedSeconds, throughput));
+        out.println(metrics.getReport());
+        out.println(String.format(MESSAGE_SAVES, saveCount, toMillis(saveNanos)));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -8,12 +8,12 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -25,11 +25,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SalvageResult;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -41,6 +39,14 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    public static final String MESSAGE_DATA_SALVAGED = "The data file was damaged. Loaded %1$d valid persons;"
+            + " %2$d records that could not be loaded were moved to %3$s.";
+    public static final String MESSAGE_BACKUP_RECOVERED = "The data file could not be loaded. Loaded the previous"
+            + " version %1$s instead; changes made after it was saved are lost.";
+
+    /** The number of persons read ahead of the rest of the address book, enough to fill the first screen. */
+    private static final int PREVIEW_PERSON_COUNT = 50;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -49,35 +55,63 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private boolean isAddressBookLoading;
+    /** Whether the address book loaded is not exactly what the data file holds, so it must be saved. */
+    private volatile boolean isSaveNeeded;
+    private volatile String startupMessage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        storage = AppInitializer.initStorage(config, userPrefsStorage, userPrefs, config.isAsyncSaveEnabled());
 
         model = initModelManager(storage, userPrefs);
+        AppInitializer.initMetricsDump(config, model.getMetrics());
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, isAddressBookLoading, isSaveNeeded);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}.
+     * If the first persons of the address book can be read ahead of the rest, the model holds only those, so that
+     * they can be shown at once, and the rest is loaded after the UI starts.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        try {
+            Optional<ReadOnlyAddressBook> preview = storage.readAddressBookPreview(PREVIEW_PERSON_COUNT);
+            if (preview.isPresent()) {
+                isAddressBookLoading = true;
+                return new ModelManager(preview.get(), userPrefs);
+            }
+        } catch (DataLoadingException e) {
+            logger.info("The first persons in data file at " + storage.getAddressBookFilePath()
+                    + " could not be read ahead. Will load the whole data file first.");
+        }
+        return new ModelManager(readAddressBook(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book.
+     * If the address book is journaled, this is its latest snapshot with the journal replayed over it. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If errors occur when reading {@code storage}'s address book, the valid persons that the read found are salvaged
+     * if possible, without reading the data file again, or an empty address book will be used instead.
+     * Sets whether the data returned must be saved, which it must unless it is exactly what the data file holds or is
+     * the empty address book used when nothing could be loaded, so that the damaged data file is kept.
+     */
+    private ReadOnlyAddressBook readAddressBook(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -86,89 +120,63 @@ public class MainApp extends Application {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
+            storage.getRecoveredBackupPath().ifPresent(backupPath ->
+                    startupMessage = String.format(MESSAGE_BACKUP_RECOVERED, backupPath));
+            isSaveNeeded = !addressBookOptional.isPresent() || storage.getRecoveredBackupPath().isPresent();
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            Optional<ReadOnlyAddressBook> salvaged = salvageAddressBook(storage);
+            isSaveNeeded = salvaged.isPresent();
+            initialData = salvaged.orElseGet(() -> {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.");
+                return new AddressBook();
+            });
         }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
+        return initialData;
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns the valid persons salvaged from {@code storage}'s address book, and sets the message reporting the
+     * salvage to be shown to the user.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
+    private Optional<ReadOnlyAddressBook> salvageAddressBook(Storage storage) {
+        Optional<SalvageResult> salvageResult;
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
+            salvageResult = storage.salvageAddressBook();
         } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
+            return Optional.empty();
         }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        if (!salvageResult.isPresent()) {
+            return Optional.empty();
         }
-        return initializedConfig;
+
+        SalvageResult result = salvageResult.get();
+        logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded in full."
+                + " Will be starting with the " + result.getSalvagedCount() + " persons salvaged from it.");
+        startupMessage = String.format(MESSAGE_DATA_SALVAGED, result.getSalvagedCount(),
+                result.getQuarantinedCount(), result.getQuarantineFilePath().map(Path::toString).orElse("-"));
+        return Optional.of(result.getAddressBook());
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Reads the whole address book on a background thread, then replaces the first persons shown at startup with it
+     * on the JavaFX application thread.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
+    private void loadRemainingAddressBook() {
+        Thread loader = new Thread(() -> {
+            ReadOnlyAddressBook addressBook = readAddressBook(storage);
+            Platform.runLater(() -> {
+                logic.finishLoadingAddressBook(addressBook, isSaveNeeded);
+                showStartupMessage();
+            });
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
 
-        return initializedPrefs;
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
     }
 
     @Override
@@ -181,12 +189,33 @@ public class MainApp extends Application {
             String[] keywords = lastFilter.split("\\s+");
             List<String> keywordList = Arrays.asList(keywords);
             model.updateFilteredPersonList(new NameContainsKeywordsPredicate(keywordList));
+        }
+
+        if (isAddressBookLoading) {
+            loadRemainingAddressBook();
+        } else {
+            showStartupMessage();
+        }
+    }
+
+    /**
+     * Shows the message about the restored filter, and then the message about loading the data file, if there are
+     * any, in the result display. Only called once the whole address book is loaded, so that the number of persons
+     * listed is not that of the first persons shown while it loads.
+     */
+    private void showStartupMessage() {
+        String lastFilter = model.getUserPrefs().getLastFilterKeywords();
+        if (!lastFilter.isEmpty()) {
             String message = String.format(
                 "Filter restored: showing persons with names containing \"%s\" (%d persons listed)",
                 lastFilter, model.getFilteredPersonList().size());
             UiManager uiManager = (UiManager) ui;
             uiManager.getMainWindow().getResultDisplay().setFeedbackToUser(message);
         }
+        if (startupMessage != null) {
+            UiManager uiManager = (UiManager) ui;
+            uiManager.getMainWindow().getResultDisplay().setFeedbackToUser(startupMessage);
+        }
     }
 
     @Override
@@ -197,5 +226,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // Writes any address book changes still waiting for the background writer before the app exits.
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to finish writing data file " + StringUtil.getDetails(e));
+        }
+        model.getMetrics().stopDump();
     }
 }
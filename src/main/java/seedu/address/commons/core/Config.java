@@ -17,6 +17,15 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isCompactDataFile = false;
+    private int dataFileBackupCount = 2;
+    private boolean isJournalEnabled = false;
+    private long journalSyncIntervalMillis = 1000;
+    private long journalCompactionThresholdBytes = 1024 * 1024;
+    private boolean isAsyncSaveEnabled = false;
+    private long saveDelayMillis = 200;
+    private long metricsDumpIntervalMillis = 0;
+    private Path metricsFilePath = Paths.get("metrics.txt");
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +43,103 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book data file should be written without indentation or line breaks.
+     */
+    public boolean isCompactDataFile() {
+        return isCompactDataFile;
+    }
+
+    public void setCompactDataFile(boolean isCompactDataFile) {
+        this.isCompactDataFile = isCompactDataFile;
+    }
+
+    /**
+     * Returns the number of previous versions of the address book data file to keep.
+     */
+    public int getDataFileBackupCount() {
+        return dataFileBackupCount;
+    }
+
+    public void setDataFileBackupCount(int dataFileBackupCount) {
+        this.dataFileBackupCount = dataFileBackupCount;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal instead of rewriting the whole
+     * data file on every save.
+     */
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    /**
+     * Returns how often, in milliseconds, changes appended to the journal are forced to the disk.
+     */
+    public long getJournalSyncIntervalMillis() {
+        return journalSyncIntervalMillis;
+    }
+
+    public void setJournalSyncIntervalMillis(long journalSyncIntervalMillis) {
+        this.journalSyncIntervalMillis = journalSyncIntervalMillis;
+    }
+
+    /**
+     * Returns the size, in bytes, at which the journal is folded into a fresh data file.
+     */
+    public long getJournalCompactionThresholdBytes() {
+        return journalCompactionThresholdBytes;
+    }
+
+    public void setJournalCompactionThresholdBytes(long journalCompactionThresholdBytes) {
+        this.journalCompactionThresholdBytes = journalCompactionThresholdBytes;
+    }
+
+    /**
+     * Returns true if the address book should be saved on a background thread instead of the thread running commands.
+     */
+    public boolean isAsyncSaveEnabled() {
+        return isAsyncSaveEnabled;
+    }
+
+    public void setAsyncSaveEnabled(boolean isAsyncSaveEnabled) {
+        this.isAsyncSaveEnabled = isAsyncSaveEnabled;
+    }
+
+    /**
+     * Returns how long, in milliseconds, a background save waits so that later changes can be written with it.
+     */
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Returns how often, in milliseconds, the command metrics are written to the metrics file, or 0 if they are not.
+     */
+    public long getMetricsDumpIntervalMillis() {
+        return metricsDumpIntervalMillis;
+    }
+
+    public void setMetricsDumpIntervalMillis(long metricsDumpIntervalMillis) {
+        this.metricsDumpIntervalMillis = metricsDumpIntervalMillis;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +153,23 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isCompactDataFile == otherConfig.isCompactDataFile
+                && dataFileBackupCount == otherConfig.dataFileBackupCount
+                && isJournalEnabled == otherConfig.isJournalEnabled
+                && journalSyncIntervalMillis == otherConfig.journalSyncIntervalMillis
+                && journalCompactionThresholdBytes == otherConfig.journalCompactionThresholdBytes
+                && isAsyncSaveEnabled == otherConfig.isAsyncSaveEnabled
+                && saveDelayMillis == otherConfig.saveDelayMillis
+                && metricsDumpIntervalMillis == otherConfig.metricsDumpIntervalMillis
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isCompactDataFile, dataFileBackupCount, isJournalEnabled,
+                journalSyncIntervalMillis, journalCompactionThresholdBytes, isAsyncSaveEnabled, saveDelayMillis,
+                metricsDumpIntervalMillis, metricsFilePath);
     }
 
     @Override
@@ -60,6 +177,15 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isCompactDataFile", isCompactDataFile)
+                .add("dataFileBackupCount", dataFileBackupCount)
+                .add("isJournalEnabled", isJournalEnabled)
+                .add("journalSyncIntervalMillis", journalSyncIntervalMillis)
+                .add("journalCompactionThresholdBytes", journalCompactionThresholdBytes)
+                .add("isAsyncSaveEnabled", isAsyncSaveEnabled)
+                .add("saveDelayMillis", saveDelayMillis)
+                .add("metricsDumpIntervalMillis", metricsDumpIntervalMillis)
+                .add("metricsFilePath", metricsFilePath)
                 .toString();
     }
 
@@ -0,0 +1,93 @@
+package seedu.address.commons.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * A histogram of latencies in nanoseconds, in the style of an HDR histogram: the buckets grow wider with the values
+ * they hold, so every latency is kept to within about 6% while the histogram stays a fixed size of 528 buckets,
+ * about 4 KB. Recording a latency does not allocate. A histogram must only be recorded to by one thread at a time,
+ * and may be read by other threads while it is recorded to, at the cost of seeing a latency only partly recorded.
+ */
+public class LatencyHistogram {
+
+    /** Latencies longer than this, about 69 seconds, are recorded as this. */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    /** Each power of two above {@code 2 * SUB_BUCKET_COUNT} is split into {@code SUB_BUCKET_COUNT} buckets. */
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts[indexOf(value)]++;
+        count++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded latencies, or 0 if none has been recorded.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / (double) count;
+    }
+
+    /**
+     * Returns the latency that {@code percentile} percent of the recorded latencies do not exceed, rounded up to the
+     * end of its bucket, or 0 if none has been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the bucket of {@code value}. Values below {@code 2 * SUB_BUCKET_COUNT} have a bucket each; above that,
+     * each bucket is {@code 2^shift} wide, where {@code shift} grows by one with every power of two.
+     */
+    static int indexOf(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value that falls in the bucket at {@code index}.
+     */
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long subBucket = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Records how long each phase of running a command takes, in a {@link LatencyHistogram} per command word and phase,
+ * and counts the commands run, the errors and the bytes written.
+ *
+ * Recording does not allocate once a command word has been seen. The histograms of a command word, one per phase,
+ * take about 17 KB and are created the first time it is run. The latencies of a command word must only be recorded
+ * by one thread at a time, while counters may be added to from any thread.
+ */
+public class MetricsRegistry {
+
+    /** The command word that latencies of commands without a known command word are recorded under. */
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
+
+    public static final String MESSAGE_COUNTERS = "Commands: %1$d, errors: %2$d, bytes written: %3$d";
+
+    private static final String HISTOGRAM_HEADER = String.format("%-12s %-8s %8s %10s %10s %10s %10s",
+            "command", "phase", "count", "mean us", "p50 us", "p99 us", "max us");
+    private static final String HISTOGRAM_ROW_FORMAT = "%-12s %-8s %8d %10.1f %10.1f %10.1f %10.1f";
+    private static final double NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsRegistry.class);
+
+    /**
+     * A phase of running a command.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        SAVE("save"),
+        UI_UPDATE("ui");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * A count kept across all commands.
+     */
+    public enum Counter {
+        COMMANDS,
+        ERRORS,
+        BYTES_WRITTEN
+    }
+
+    /** The histograms of each command word, indexed by the ordinal of their phase. */
+    private final Map<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private final AtomicLongArray counters = new AtomicLongArray(Counter.values().length);
+
+    private ScheduledExecutorService dumpExecutor;
+    private Path dumpFilePath;
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        histogramsOf(commandWord)[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took from {@code startNanos} until now, as
+     * given by {@link System#nanoTime()}, and returns now, which the next phase can be timed from.
+     */
+    public long recordSince(String commandWord, Phase phase, long startNanos) {
+        long endNanos = System.nanoTime();
+        record(commandWord, phase, endNanos - startNanos);
+        return endNanos;
+    }
+
+    /**
+     * Adds 1 to {@code counter}.
+     */
+    public void increment(Counter counter) {
+        add(counter, 1);
+    }
+
+    /**
+     * Adds {@code amount} to {@code counter}.
+     */
+    public void add(Counter counter, long amount) {
+        counters.addAndGet(counter.ordinal(), amount);
+    }
+
+    public long getCount(Counter counter) {
+        return counters.get(counter.ordinal());
+    }
+
+    /**
+     * Returns the latencies recorded for {@code phase} of commands with {@code commandWord}, if any have been.
+     */
+    public Optional<LatencyHistogram> getHistogram(String commandWord, Phase phase) {
+        LatencyHistogram[] phaseHistograms = histograms.get(commandWord);
+        if (phaseHistograms == null || phaseHistograms[phase.ordinal()].getCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(phaseHistograms[phase.ordinal()]);
+    }
+
+    /**
+     * Returns the counters, followed by a table of the latencies of each phase of each command word recorded.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_COUNTERS, getCount(Counter.COMMANDS),
+                getCount(Counter.ERRORS), getCount(Counter.BYTES_WRITTEN)));
+        if (histograms.isEmpty()) {
+            return report.toString();
+        }
+
+        report.append('\n').append(HISTOGRAM_HEADER);
+        new TreeMap<>(histograms).forEach((commandWord, phaseHistograms) -> {
+            for (Phase phase : PHASES) {
+                LatencyHistogram histogram = phaseHistograms[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    report.append('\n').append(String.format(HISTOGRAM_ROW_FORMAT, commandWord, phase,
+                            histogram.getCount(), toMicros(histogram.getMeanNanos()),
+                            toMicros(histogram.getPercentileNanos(50)), toMicros(histogram.getPercentileNanos(99)),
+                            toMicros(histogram.getMaxNanos())));
+                }
+            }
+        });
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to {@code filePath} every {@code intervalMillis} milliseconds on a background thread, until
+     * {@link #stopDump()} is called.
+     */
+    public synchronized void startDump(Path filePath, long intervalMillis) {
+        requireNonNull(filePath);
+        checkArgument(intervalMillis > 0, "Dump interval must be positive");
+        assert dumpExecutor == null : "Metrics are already being dumped";
+
+        dumpFilePath = filePath;
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleWithFixedDelay(() -> dump(filePath), intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops writing the report periodically, and writes it one last time.
+     * Does nothing if {@link #startDump(Path, long)} has not been called.
+     */
+    public synchronized void stopDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdown();
+        try {
+            // Lets a dump in progress finish, so that it cannot overwrite the last one.
+            dumpExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        dumpExecutor = null;
+        dump(dumpFilePath);
+    }
+
+    private void dump(Path filePath) {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, getReport() + "\n");
+        } catch (IOException ioe) {
+            logger.warning("Failed to write metrics to " + filePath + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private LatencyHistogram[] histogramsOf(String commandWord) {
+        LatencyHistogram[] phaseHistograms = histograms.get(commandWord);
+        if (phaseHistograms == null) {
+            phaseHistograms = histograms.computeIfAbsent(commandWord, word -> newHistograms());
+        }
+        return phaseHistograms;
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+        LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        return phaseHistograms;
+    }
+
+    private static double toMicros(double nanos) {
+        return nanos / NANOS_PER_MICRO;
+    }
+}
@@ -1,17 +1,33 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +96,99 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, such that after a crash the file
+     * holds either its old or its new contents in full.
+     * The contents are written to a temporary file next to {@code file}, forced to the disk, and then moved over
+     * {@code file} in a single atomic rename, after which the directory is forced to the disk as well. Up to
+     * {@code backupCount} previous versions of {@code file} are kept, the most recent one at
+     * {@code getBackupPath(file, 1)}. The older ones are rotated by renaming, and the most recent one is kept as a
+     * hard link to {@code file}, or a copy of it where links are not supported, so {@code file} itself is never
+     * moved away and exists throughout.
+     *
+     * @throws IOException if the contents could not be written, in which case {@code file} is left unchanged.
+     */
+    public static void writeAtomically(Path file, int backupCount, ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+        checkArgument(backupCount >= 0, "Backup count must not be negative");
+
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        if (backupCount > 0 && Files.exists(file)) {
+            for (int generation = backupCount - 1; generation >= 1; generation--) {
+                Path backup = getBackupPath(file, generation);
+                if (Files.exists(backup)) {
+                    Files.move(backup, getBackupPath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            keepBackup(file, getBackupPath(file, 1));
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            logger.warning("Cannot replace " + file + " atomically, so a crash while saving may corrupt it: "
+                    + amnse.getMessage());
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Makes {@code backup} a hard link to {@code file}, or a copy of it if the file system does not support links.
+     */
+    private static void keepBackup(Path file, Path backup) throws IOException {
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.fine("Cannot link " + backup + " to " + file + ", copying it instead: " + e);
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file renamed into it stays renamed after a crash.
+     * Does nothing where directories cannot be opened, as on Windows, which persists renames by itself.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            logger.fine("Cannot force directory " + directory + " to the disk: " + ioe);
+        }
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th most recent previous version of {@code file} kept by
+     * {@link #writeAtomically(Path, int, ContentWriter)}.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        requireNonNull(file);
+        checkArgument(generation >= 1, "Generation must be positive");
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, which the caller closes.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Helper functions for validating field values, shared by the parsers and the storage loaders.
+ *
+ * The character scans accept exactly the strings matched by the regular expressions they are documented against, but
+ * run without compiling a {@code Pattern} or allocating anything. Validations too complex for a scan should match a
+ * {@code Pattern} compiled once into a constant, as {@link String#matches(String)} compiles its regex on every call.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} consists of exactly {@code length} ASCII digits, as matched by {@code \d{length}}.
+     */
+    public static boolean isDigits(String test, int length) {
+        requireNonNull(test);
+        if (test.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of one or more ASCII letters and digits, as matched by
+     * {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter or digit, followed by ASCII letters, digits and
+     * spaces, as matched by {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter, followed by ASCII letters and spaces, as matched by
+     * {@code [A-Za-z][A-Za-z ]*}.
+     */
+    public static boolean isLetterWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAsciiLetter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiLetter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the whole of {@code test} matches {@code pattern}.
+     */
+    public static boolean matches(Pattern pattern, String test) {
+        requireNonNull(pattern);
+        requireNonNull(test);
+        return pattern.matcher(test).matches();
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+}
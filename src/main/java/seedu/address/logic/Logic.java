@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -10,6 +11,7 @@ import seedu.address.logic.history.CommandHistory;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveResult;
 
 /**
  * API of the Logic component
@@ -24,6 +26,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Records that showing the result of the last command executed took {@code nanos} nanoseconds.
+     */
+    void recordUiUpdate(long nanos);
+
     /**
      * Returns the AddressBook.
      *
@@ -39,6 +46,33 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Sets the listener that is told the result of every write of the address book to storage.
+     * The listener may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveResultListener(Consumer<SaveResult> listener);
+
+    /**
+     * Replaces the partially loaded address book shown at startup with the fully loaded {@code addressBook}, and
+     * allows commands to be executed from then on.
+     *
+     * @param isSaveNeeded true if {@code addressBook} is not exactly what the data file holds, in which case it is
+     *     saved after the next command even if that command changes nothing.
+     */
+    void finishLoadingAddressBook(ReadOnlyAddressBook addressBook, boolean isSaveNeeded);
+
+    /**
+     * Sets whether the address book is saved after every command that modifies it.
+     * When it is not, changes are only written by {@link #saveAddressBook()}.
+     */
+    void setAutoSave(boolean isAutoSave);
+
+    /**
+     * Saves the address book to storage if it has been modified since it was last saved, or was never saved.
+     * @throws CommandException If the address book could not be saved.
+     */
+    void saveAddressBook() throws CommandException;
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -1,13 +1,19 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.metrics.MetricsRegistry;
+import seedu.address.commons.metrics.MetricsRegistry.Counter;
+import seedu.address.commons.metrics.MetricsRegistry.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,6 +23,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveResult;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,6 +35,9 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_STILL_LOADING =
+            "The data file is still being loaded. Please try again in a moment.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -35,23 +45,101 @@ public class LogicManager implements Logic {
     private final AddressBookParser addressBookParser;
     private final CommandHistory history;
 
+    /** The version of the address book that was last written to (or loaded from) storage. */
+    private long savedAddressBookVersion;
+    /** Whether the address book must be saved although it has not changed, as the data file does not hold it. */
+    private boolean isSaveNeeded;
+    private boolean isAddressBookLoading;
+    private boolean isAutoSave = true;
+    /** The command word of the last command executed, which the time taken to show its result is recorded under. */
+    private String lastCommandWord = MetricsRegistry.UNKNOWN_COMMAND_WORD;
+    /** Takes the command word that the parser resolves, so that it need not be resolved again to record metrics. */
+    private final Consumer<String> commandWordRecorder = commandWord -> lastCommandWord = commandWord;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, where {@code model} holds
+     * exactly what {@code storage} holds.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     *
+     * @param isAddressBookLoading true if {@code model} holds only part of the address book while the rest is loaded,
+     *     in which case commands are refused until {@link #finishLoadingAddressBook} is called.
+     * @param isSaveNeeded true if {@code model} does not hold exactly what {@code storage} holds, such as when the data
+     *     file is missing or was damaged, in which case the address book is saved after the first command even if
+     *     that command changes nothing.
+     */
+    public LogicManager(Model model, Storage storage, boolean isAddressBookLoading, boolean isSaveNeeded) {
         this.model = model;
+        this.isAddressBookLoading = isAddressBookLoading;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
         history = new CommandHistory();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        this.isSaveNeeded = isSaveNeeded;
+        if (!isSaveNeeded) {
+            model.markAddressBookSaved();
+        }
+        storage.setSaveResultListener(this::recordSaveResult);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isAddressBookLoading) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
+
+        MetricsRegistry metrics = model.getMetrics();
+        lastCommandWord = MetricsRegistry.UNKNOWN_COMMAND_WORD;
+        metrics.increment(Counter.COMMANDS);
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Phase phase = Phase.PARSE;
+        long phaseStartNanos = System.nanoTime();
+        try {
+            Command command = addressBookParser.parseCommand(commandText, commandWordRecorder);
+            phaseStartNanos = metrics.recordSince(lastCommandWord, phase, phaseStartNanos);
+            phase = Phase.EXECUTE;
+            commandResult = command.execute(model);
+
+            if (isAutoSave) {
+                phaseStartNanos = metrics.recordSince(lastCommandWord, phase, phaseStartNanos);
+                phase = Phase.SAVE;
+                saveAddressBook();
+            }
+        } catch (CommandException | ParseException e) {
+            metrics.increment(Counter.ERRORS);
+            throw e;
+        } finally {
+            // The phase that was running when the command finished, or failed, has yet to be recorded.
+            metrics.recordSince(lastCommandWord, phase, phaseStartNanos);
+        }
+
+        history.add(commandText);
+        return commandResult;
+    }
+
+    @Override
+    public void recordUiUpdate(long nanos) {
+        model.getMetrics().record(lastCommandWord, Phase.UI_UPDATE, nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Read-only commands therefore do not rewrite the data file. Once saved, the model is marked as saved, so that
+     * the next save is given only the changes made after this one.
+     */
+    @Override
+    public void saveAddressBook() throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion && !isSaveNeeded) {
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -60,9 +148,9 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        history.add(commandText);
-        return commandResult;
+        savedAddressBookVersion = version;
+        isSaveNeeded = false;
+        model.markAddressBookSaved();
     }
 
     @Override
@@ -80,6 +168,35 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public void setSaveResultListener(Consumer<SaveResult> listener) {
+        requireNonNull(listener);
+        storage.setSaveResultListener(saveResult -> {
+            recordSaveResult(saveResult);
+            listener.accept(saveResult);
+        });
+    }
+
+    private void recordSaveResult(SaveResult saveResult) {
+        model.getMetrics().add(Counter.BYTES_WRITTEN, saveResult.getBytesWritten());
+    }
+
+    @Override
+    public void finishLoadingAddressBook(ReadOnlyAddressBook addressBook, boolean isSaveNeeded) {
+        model.setAddressBook(addressBook);
+        savedAddressBookVersion = model.getAddressBookVersion();
+        this.isSaveNeeded = isSaveNeeded;
+        if (!isSaveNeeded) {
+            model.markAddressBookSaved();
+        }
+        isAddressBookLoading = false;
+    }
+
+    @Override
+    public void setAutoSave(boolean isAutoSave) {
+        this.isAutoSave = isAutoSave;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
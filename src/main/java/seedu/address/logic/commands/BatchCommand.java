@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Runs a sequence of add, edit and delete commands as a single transaction: either all of them take effect or, if
+ * any of them fails, none do.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs several add, edit and delete commands, "
+            + "separated by \"" + COMMAND_SEPARATOR + "\", all at once. If any of them fails, none of them "
+            + "take effect. Indexes refer to the displayed person list; persons added in the batch are only shown "
+            + "after it.\n"
+            + "Parameters: COMMAND" + COMMAND_SEPARATOR + " COMMAND" + COMMAND_SEPARATOR + "...\n"
+            + "Example: " + COMMAND_WORD + " add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2 "
+            + "o/kidney b/O+ r/1" + COMMAND_SEPARATOR + " delete 3";
+
+    public static final String MESSAGE_SUCCESS = "Ran a batch of %1$d commands";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of the batch failed, so no changes were made: "
+            + "%2$s";
+    public static final String MESSAGE_PERSON_ALREADY_CHANGED =
+            "This person was already edited or deleted earlier in the batch";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand that runs {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // Commands in the batch can change the filter, so every index is resolved against the list shown beforehand.
+        List<Person> displayedPersons = List.copyOf(model.getFilteredPersonList());
+        model.beginTransaction();
+        boolean isCompleted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                executeInBatch(commands.get(i), i + 1, model, displayedPersons);
+            }
+            isCompleted = true;
+        } finally {
+            if (isCompleted) {
+                model.commitTransaction();
+            } else {
+                model.rollbackTransaction();
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    private static void executeInBatch(Command command, int position, Model model, List<Person> displayedPersons)
+            throws CommandException {
+        try {
+            command.execute(model, displayedPersons);
+        } catch (CommandException ce) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, position, ce.getMessage()), ce);
+        } catch (PersonNotFoundException pnfe) {
+            // Indexes refer to the list displayed before the batch, so an index can point at a changed person.
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, position,
+                    MESSAGE_PERSON_ALREADY_CHANGED), pnfe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
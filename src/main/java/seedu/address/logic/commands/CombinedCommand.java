@@ -6,38 +6,69 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.CombinedPredicate;
+import seedu.address.model.person.CombinedQueryPlan;
 
 /**
  * Finds and lists all persons in address book that match all specified criteria.
  * Criteria can include exact name match, organ substring, and compatible blood types for recipients.
+ * With the {@code explain} flag, the query plan chosen for the criteria and its timing are reported as well.
  */
 public class CombinedCommand extends Command {
 
     public static final String COMMAND_WORD = "combined";
 
+    public static final String EXPLAIN_FLAG = "explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching ALL specified criteria "
             + "(case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: [n/EXACT_NAME] [o/ORGAN_SUBSTRING] [b/RECIPIENT_BLOOD_TYPES]\n"
+            + "Parameters: [" + EXPLAIN_FLAG + "] [n/EXACT_NAME] [o/ORGAN_SUBSTRING] [b/RECIPIENT_BLOOD_TYPES]\n"
             + "At least one parameter must be provided.\n"
             + "Name must be exact match. Organs are searched by substring. "
             + "Blood type finds recipients compatible with the specified donor blood types.\n"
+            + "Add " + EXPLAIN_FLAG + " to also show the query plan and how long it took.\n"
             + "Example: " + COMMAND_WORD + " n/Alice Pauline o/kidney b/O+";
 
+    public static final String MESSAGE_EXPLAIN = "Plan: %1$s\nPlanned in %2$.3f ms, filtered in %3$.3f ms";
+
     private final CombinedPredicate predicate;
+    private final boolean isExplain;
 
     public CombinedCommand(CombinedPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a CombinedCommand that filters by {@code predicate}, reporting the query plan if {@code isExplain}.
+     */
+    public CombinedCommand(CombinedPredicate predicate, boolean isExplain) {
         this.predicate = predicate;
+        this.isExplain = isExplain;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (!isExplain) {
+            model.updateFilteredPersonList(predicate);
+            return new CommandResult(getResultMessage(model));
+        }
+
+        long planStart = System.nanoTime();
+        CombinedQueryPlan plan = predicate.plan(model.getPersonIndex());
+        long filterStart = System.nanoTime();
+        model.updateFilteredPersonList(predicate.withPlan(plan));
+        long filterEnd = System.nanoTime();
+
+        String explanation = String.format(MESSAGE_EXPLAIN, plan.describe(),
+                (filterStart - planStart) / 1e6, (filterEnd - filterStart) / 1e6);
+        return new CommandResult(getResultMessage(model) + "\n" + explanation);
+    }
+
+    private String getResultMessage(Model model) {
         if (model.isFilteredPersonListEmpty()) {
-            return new CommandResult(String.format(Messages.MESSAGE_NO_PERSONS_FOUND, predicate.getCriteria()));
+            return String.format(Messages.MESSAGE_NO_PERSONS_FOUND, predicate.getCriteria());
         }
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        return String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
     }
 
     @Override
@@ -52,13 +83,15 @@ public class CombinedCommand extends Command {
         }
 
         CombinedCommand otherCommand = (CombinedCommand) other;
-        return predicate.equals(otherCommand.predicate);
+        return predicate.equals(otherCommand.predicate)
+                && isExplain == otherCommand.isExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplain", isExplain)
                 .toString();
     }
 }
@@ -1,7 +1,10 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +20,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, resolving any index into the displayed person list against {@code displayedPersons}
+     * rather than against the list the model displays at the time. Commands that take no index ignore it.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param displayedPersons the person list that indexes refer to.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Model model, List<Person> displayedPersons) throws CommandException {
+        return execute(model);
+    }
+
 }
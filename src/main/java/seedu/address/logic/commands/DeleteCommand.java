@@ -34,7 +34,13 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        return execute(model, model.getFilteredPersonList());
+    }
+
+    @Override
+    CommandResult execute(Model model, List<Person> lastShownList) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(lastShownList);
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
@@ -87,7 +87,13 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        return execute(model, model.getFilteredPersonList());
+    }
+
+    @Override
+    CommandResult execute(Model model, List<Person> lastShownList) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(lastShownList);
 
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
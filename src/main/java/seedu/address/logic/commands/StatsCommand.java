@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Shows how many commands have been run and how long each phase of running them took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many commands have been run, how many"
+            + " failed and how many bytes were saved, followed by how long parsing, executing, saving and showing"
+            + " the result of each command took, in microseconds.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(model.getMetrics().getReport());
+    }
+}
@@ -2,14 +2,15 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Map;
-import java.util.TreeMap;
-
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.BloodTypeEnum;
+import seedu.address.model.person.OrganCountCube;
+import seedu.address.model.person.Priority;
 
 /**
- * Displays a summary of organ requirements across all patients.
+ * Displays a summary of organ requirements across all patients, optionally broken down by blood type and priority.
+ * Counts are read from the {@code OrganCountCube} maintained by the address book, so the person list is not scanned.
  */
 public class SummaryCommand extends Command {
 
@@ -17,19 +18,37 @@ public class SummaryCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays a summary of how many patients require each type of organ.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [b/] [r/]\n"
+            + "b/ breaks down each organ by blood type, r/ breaks down each organ by priority.\n"
+            + "Example: " + COMMAND_WORD + " b/";
 
     public static final String MESSAGE_SUCCESS = "Organ Requirements Summary:\n%s";
     public static final String MESSAGE_NO_PATIENTS = "No patients in the system.";
 
+    private final boolean isByBloodType;
+    private final boolean isByPriority;
+
+    public SummaryCommand() {
+        this(false, false);
+    }
+
+    /**
+     * Creates a SummaryCommand that breaks down each organ by blood type if {@code isByBloodType}
+     * and by priority if {@code isByPriority}.
+     */
+    public SummaryCommand(boolean isByBloodType, boolean isByPriority) {
+        this.isByBloodType = isByBloodType;
+        this.isByPriority = isByPriority;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        assert model.getAddressBook() != null : "Address book should not be null";
+        assert model.getPersonIndex() != null : "Person index should not be null";
 
-        Map<String, Integer> organCounts = collectOrganCounts(model);
+        OrganCountCube organCounts = model.getPersonIndex().getOrganCounts();
 
-        if (organCounts.isEmpty()) {
+        if (organCounts.getOrganNames().isEmpty()) {
             return new CommandResult(MESSAGE_NO_PATIENTS);
         }
 
@@ -37,34 +56,9 @@ public class SummaryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, summaryText));
     }
 
-    private Map<String, Integer> collectOrganCounts(Model model) {
-        assert model != null : "Model should not be null";
-        Map<String, Integer> organCounts = new TreeMap<>();
-
-        for (Person person : model.getAddressBook().getPersonList()) {
-            if (person == null || person.getOrgan() == null) {
-                continue;
-            }
-            incrementOrganCount(organCounts, person);
-        }
-
-        return organCounts;
-    }
-
-    private void incrementOrganCount(Map<String, Integer> organCounts, Person person) {
-        assert organCounts != null : "Organ counts map should not be null";
-        assert person != null : "Person should not be null";
-        assert person.getOrgan() != null : "Person organ should not be null";
-
-        String organName = person.getOrgan().organName;
-        if (organName == null || organName.isEmpty()) {
-            return;
-        }
-        organCounts.put(organName, organCounts.getOrDefault(organName, 0) + 1);
-    }
-
-    private String buildSummaryText(Map<String, Integer> organCounts) {
-        assert organCounts != null && !organCounts.isEmpty() : "Organ counts should not be null or empty";
+    private String buildSummaryText(OrganCountCube organCounts) {
+        assert organCounts != null && !organCounts.getOrganNames().isEmpty()
+                : "Organ counts should not be null or empty";
 
         StringBuilder summary = new StringBuilder();
         int totalPatients = appendOrganEntries(summary, organCounts);
@@ -73,32 +67,53 @@ public class SummaryCommand extends Command {
         return summary.toString();
     }
 
-    private int appendOrganEntries(StringBuilder summary, Map<String, Integer> organCounts) {
+    private int appendOrganEntries(StringBuilder summary, OrganCountCube organCounts) {
         assert summary != null : "Summary builder should not be null";
-        assert organCounts != null : "Organ counts map should not be null";
+        assert organCounts != null : "Organ counts should not be null";
 
         int totalPatients = 0;
-        for (Map.Entry<String, Integer> entry : organCounts.entrySet()) {
-            if (entry == null || entry.getKey() == null) {
-                continue;
-            }
-            totalPatients += appendSingleOrganEntry(summary, entry);
+        for (String organ : organCounts.getOrganNames()) {
+            totalPatients += appendSingleOrganEntry(summary, organCounts, organ);
         }
         return totalPatients;
     }
 
-    private int appendSingleOrganEntry(StringBuilder summary, Map.Entry<String, Integer> entry) {
+    private int appendSingleOrganEntry(StringBuilder summary, OrganCountCube organCounts, String organ) {
         assert summary != null : "Summary builder should not be null";
-        assert entry != null : "Entry should not be null";
+        assert organ != null && !organ.isEmpty() : "Organ should not be null or empty";
 
-        String organ = entry.getKey();
-        int count = entry.getValue();
+        int count = organCounts.count(organ);
         assert count >= 0 : "Count should not be negative";
 
         summary.append(String.format("%-15s : %d patient(s)%n", organ, count));
+        if (isByBloodType) {
+            appendBloodTypeBreakdown(summary, organCounts, organ);
+        }
+        if (isByPriority) {
+            appendPriorityBreakdown(summary, organCounts, organ);
+        }
         return count;
     }
 
+    private void appendBloodTypeBreakdown(StringBuilder summary, OrganCountCube organCounts, String organ) {
+        for (BloodTypeEnum bloodType : BloodTypeEnum.values()) {
+            appendBreakdownEntry(summary, bloodType.toString(), organCounts.count(organ, bloodType));
+        }
+    }
+
+    private void appendPriorityBreakdown(StringBuilder summary, OrganCountCube organCounts, String organ) {
+        for (int priority = Priority.MIN_PRIORITY; priority <= Priority.MAX_PRIORITY; priority++) {
+            appendBreakdownEntry(summary, "Priority " + priority, organCounts.count(organ, new Priority(priority)));
+        }
+    }
+
+    private void appendBreakdownEntry(StringBuilder summary, String label, int count) {
+        assert count >= 0 : "Count should not be negative";
+        if (count > 0) {
+            summary.append(String.format("  %-13s : %d patient(s)%n", label, count));
+        }
+    }
+
     private void appendTotalCount(StringBuilder summary, int totalPatients) {
         assert summary != null : "Summary builder should not be null";
         assert totalPatients >= 0 : "Total patients should not be negative";
@@ -108,12 +123,25 @@ public class SummaryCommand extends Command {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof SummaryCommand); // instanceof handles nulls
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SummaryCommand)) {
+            return false;
+        }
+
+        SummaryCommand otherCommand = (SummaryCommand) other;
+        return isByBloodType == otherCommand.isByBloodType
+                && isByPriority == otherCommand.isByPriority;
     }
 
     @Override
     public String toString() {
-        return this.getClass().getCanonicalName() + "{}";
+        return new ToStringBuilder(this)
+                .add("isByBloodType", isByBloodType)
+                .add("isByPriority", isByPriority)
+                .toString();
     }
 }
@@ -1,14 +1,20 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.BloodTypeCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CombinedCommand;
@@ -22,19 +28,43 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.OrganCommand;
 import seedu.address.logic.commands.PriorityCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SummaryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * The command word is looked up in a trie of the command words, so it may also be abbreviated to any prefix that
+ * only one command word starts with. Each command word maps to a single parser that is shared by all inputs, so the
+ * parsers must not keep any state between calls.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandWordTrie<Parser<? extends Command>> PARSERS = new CommandWordTrie<>();
+    /** Command words that cannot be abbreviated, as their commands can remove persons and cannot be undone. */
+    private static final Set<String> UNABBREVIABLE_COMMAND_WORDS = Set.of(ClearCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, BatchCommand.COMMAND_WORD);
+
+    static {
+        PARSERS.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        PARSERS.put(BatchCommand.COMMAND_WORD, new BatchCommandParser());
+        PARSERS.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        PARSERS.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        PARSERS.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        PARSERS.put(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        PARSERS.put(OrganCommand.COMMAND_WORD, new OrganCommandParser());
+        PARSERS.put(BloodTypeCommand.COMMAND_WORD, new BloodTypeCommandParser());
+        PARSERS.put(PriorityCommand.COMMAND_WORD, new PriorityCommandParser());
+        PARSERS.put(CompatibleCommand.COMMAND_WORD, new CompatibleCommandParser());
+        PARSERS.put(CombinedCommand.COMMAND_WORD, new CombinedCommandParser());
+        PARSERS.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        PARSERS.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        PARSERS.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        PARSERS.put(SummaryCommand.COMMAND_WORD, new SummaryCommandParser());
+        PARSERS.put(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand());
+    }
 
     /**
      * Parses user input into command for execution.
@@ -44,67 +74,96 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        return parseCommand(userInput, commandWord -> { });
+    }
+
+    /**
+     * Parses user input into command for execution, giving the command word it resolves to {@code commandWordConsumer}
+     * before the arguments are parsed. The command word is given even if the arguments turn out to be invalid.
+     *
+     * @param userInput full user input string
+     * @param commandWordConsumer takes the full command word that the user input starts with
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(String userInput, Consumer<String> commandWordConsumer) throws ParseException {
+        requireNonNull(commandWordConsumer);
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final int commandWordEnd = indexOfWhitespace(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case SearchCommand.COMMAND_WORD:
-            return new SearchCommandParser().parse(arguments);
-
-        case OrganCommand.COMMAND_WORD:
-            return new OrganCommandParser().parse(arguments);
-
-        case BloodTypeCommand.COMMAND_WORD:
-            return new BloodTypeCommandParser().parse(arguments);
-
-        case PriorityCommand.COMMAND_WORD:
-            return new PriorityCommandParser().parse(arguments);
-
-        case CompatibleCommand.COMMAND_WORD:
-            return new CompatibleCommandParser().parse(arguments);
-
-        case CombinedCommand.COMMAND_WORD:
-            return new CombinedCommandParser().parse(arguments);
+        final String resolvedCommandWord;
+        try {
+            resolvedCommandWord = resolveCommandWord(commandWord);
+        } catch (ParseException pe) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw pe;
+        }
+        commandWordConsumer.accept(resolvedCommandWord);
+        return PARSERS.get(resolvedCommandWord).get().parse(arguments);
+    }
 
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+    /**
+     * Returns the command word that {@code commandWord} stands for, which is either itself or the only command word
+     * that starts with it. Command words of commands that cannot be undone must be given in full.
+     *
+     * @throws ParseException if there is no such command word, or several.
+     */
+    public static String resolveCommandWord(String commandWord) throws ParseException {
+        Optional<String> resolvedCommandWord = completeCommandWord(commandWord);
+        if (resolvedCommandWord.isPresent()) {
+            if (UNABBREVIABLE_COMMAND_WORDS.contains(resolvedCommandWord.get())
+                    && !resolvedCommandWord.get().equals(commandWord)) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            }
+            return resolvedCommandWord.get();
+        }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        List<String> candidates = commandWord.isEmpty()
+                ? Collections.emptyList()
+                : PARSERS.getWordsStartingWith(commandWord);
+        if (candidates.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, commandWord,
+                String.join(", ", candidates)));
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns the command word equal to {@code prefix} if there is one, or else the only command word that starts
+     * with it, for completing a partly typed command word.
+     */
+    public static Optional<String> completeCommandWord(String prefix) {
+        return PARSERS.resolve(prefix);
+    }
 
-        case SummaryCommand.COMMAND_WORD:
-            return new SummaryCommand();
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order.
+     */
+    public static List<String> getCommandWordsStartingWith(String prefix) {
+        return PARSERS.getWordsStartingWith(prefix);
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns the index of the first whitespace character in {@code text}, or its length if it has none.
+     */
+    static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
         }
+        return text.length();
     }
 
 }
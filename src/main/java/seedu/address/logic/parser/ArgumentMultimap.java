@@ -1,9 +1,8 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -13,34 +12,67 @@ import seedu.address.logic.parser.exceptions.ParseException;
 /**
  * Stores mapping of prefixes to their respective arguments.
  * Each key may be associated with multiple argument values.
- * Values for a given key are stored in a list, and the insertion ordering is maintained.
- * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
- * can be inserted multiple times for the same prefix.
+ * Values for a given key are kept in the order they appear in the arguments string, and may contain duplicates, i.e.
+ * the same argument value can appear multiple times for the same prefix.
+ *
+ * Arguments are held as offsets into the arguments string that was tokenized, and a value is only cut out of the
+ * arguments string when it is asked for.
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    /** Number of ints each argument takes up in {@code arguments}: its prefix index, value start and value end. */
+    private static final int ARGUMENT_SIZE = 3;
+    private static final int INITIAL_ARGUMENT_CAPACITY = 8;
+
+    private final String argsString;
+    private final Prefix[] prefixes;
+
+    /** Arguments in the order they appear in {@code argsString}, each as {@code ARGUMENT_SIZE} consecutive ints. */
+    private int[] arguments = new int[INITIAL_ARGUMENT_CAPACITY * ARGUMENT_SIZE];
+    private int argumentCount;
+    private int preambleEnd;
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
-     * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
-     *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
+     * Creates an empty {@code ArgumentMultimap} over {@code argsString}, whose arguments may be any of
+     * {@code prefixes}. Until an argument is added, all of {@code argsString} is taken as the preamble.
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    ArgumentMultimap(String argsString, Prefix... prefixes) {
+        this.argsString = argsString;
+        this.prefixes = prefixes;
+        this.preambleEnd = argsString.length();
+    }
+
+    /**
+     * Appends an argument whose prefix is {@code prefixes[prefixIndex]} and whose untrimmed value runs from
+     * {@code valueStart} to {@code valueEnd} of the arguments string. Arguments must be added in the order they
+     * appear in the arguments string, and the preamble ends where the first argument's prefix starts.
+     */
+    void put(int prefixIndex, int valueStart, int valueEnd) {
+        assert prefixIndex >= 0 && prefixIndex < prefixes.length;
+        if (argumentCount == 0) {
+            preambleEnd = valueStart - prefixes[prefixIndex].getPrefix().length();
+        }
+        int offset = argumentCount * ARGUMENT_SIZE;
+        if (offset == arguments.length) {
+            arguments = Arrays.copyOf(arguments, arguments.length * 2);
+        }
+        arguments[offset] = prefixIndex;
+        arguments[offset + 1] = valueStart;
+        arguments[offset + 2] = valueEnd;
+        argumentCount++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        int prefixIndex = indexOf(prefix);
+        for (int i = argumentCount - 1; i >= 0 && prefixIndex != -1; i--) {
+            if (arguments[i * ARGUMENT_SIZE] == prefixIndex) {
+                return Optional.of(valueOf(i));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -49,17 +81,21 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        int prefixIndex = indexOf(prefix);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < argumentCount && prefixIndex != -1; i++) {
+            if (arguments[i * ARGUMENT_SIZE] == prefixIndex) {
+                values.add(valueOf(i));
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return trimmedSubstring(0, preambleEnd);
     }
 
     /**
@@ -68,11 +104,54 @@ public class ArgumentMultimap {
      */
     public void verifyNoDuplicatePrefixesFor(Prefix... prefixes) throws ParseException {
         Prefix[] duplicatedPrefixes = Stream.of(prefixes).distinct()
-                .filter(prefix -> argMultimap.containsKey(prefix) && argMultimap.get(prefix).size() > 1)
+                .filter(prefix -> countOf(prefix) > 1)
                 .toArray(Prefix[]::new);
 
         if (duplicatedPrefixes.length > 0) {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    private int countOf(Prefix prefix) {
+        int prefixIndex = indexOf(prefix);
+        int count = 0;
+        for (int i = 0; i < argumentCount && prefixIndex != -1; i++) {
+            if (arguments[i * ARGUMENT_SIZE] == prefixIndex) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of {@code prefix} among the prefixes the arguments string was tokenized with, or -1 if it
+     * is not one of them.
+     */
+    private int indexOf(Prefix prefix) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i].equals(prefix)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String valueOf(int argumentIndex) {
+        int offset = argumentIndex * ARGUMENT_SIZE;
+        return trimmedSubstring(arguments[offset + 1], arguments[offset + 2]);
+    }
+
+    /**
+     * Returns the part of the arguments string from {@code start} to {@code end} without leading and trailing
+     * whitespace, as {@link String#trim()} would, but without copying the untrimmed part first.
+     */
+    private String trimmedSubstring(int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
+    }
 }
@@ -0,0 +1,81 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_COMMAND = "Command %1$d of the batch: only "
+            + AddCommand.COMMAND_WORD + ", " + EditCommand.COMMAND_WORD + " and " + DeleteCommand.COMMAND_WORD
+            + " can be batched, not %2$s";
+    public static final String MESSAGE_INVALID_BATCHED_COMMAND = "Command %1$d of the batch: %2$s";
+
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(BatchCommand.COMMAND_SEPARATOR));
+    private static final AddCommandParser ADD_COMMAND_PARSER = new AddCommandParser();
+    private static final EditCommandParser EDIT_COMMAND_PARSER = new EditCommandParser();
+    private static final DeleteCommandParser DELETE_COMMAND_PARSER = new DeleteCommandParser();
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution. Empty commands, such as after a trailing separator, are skipped.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : SEPARATOR_PATTERN.split(args)) {
+            String trimmedCommandText = commandText.trim();
+            if (!trimmedCommandText.isEmpty()) {
+                commands.add(parseBatchedCommand(trimmedCommandText, commands.size() + 1));
+            }
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(commands);
+    }
+
+    private static Command parseBatchedCommand(String commandText, int position) throws ParseException {
+        int commandWordEnd = AddressBookParser.indexOfWhitespace(commandText);
+        String commandWord;
+        try {
+            commandWord = AddressBookParser.resolveCommandWord(commandText.substring(0, commandWordEnd));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_BATCHED_COMMAND, position, pe.getMessage()), pe);
+        }
+
+        Parser<? extends Command> parser;
+        switch (commandWord) {
+        case AddCommand.COMMAND_WORD:
+            parser = ADD_COMMAND_PARSER;
+            break;
+        case EditCommand.COMMAND_WORD:
+            parser = EDIT_COMMAND_PARSER;
+            break;
+        case DeleteCommand.COMMAND_WORD:
+            parser = DELETE_COMMAND_PARSER;
+            break;
+        default:
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_COMMAND, position, commandWord));
+        }
+
+        try {
+            return parser.parse(commandText.substring(commandWordEnd));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_BATCHED_COMMAND, position, pe.getMessage()), pe);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import seedu.address.model.person.BloodTypeMatchesPredicate;
 /**
  * Parses input arguments and creates a new BloodTypeCommand object
  */
-public class BloodTypeCommandParser {
+public class BloodTypeCommandParser implements Parser<BloodTypeCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
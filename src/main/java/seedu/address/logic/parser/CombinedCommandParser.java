@@ -86,7 +86,9 @@ public class CombinedCommandParser implements Parser<CombinedCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CombinedCommand.MESSAGE_USAGE));
         }
 
-        return new CombinedCommand(new CombinedPredicate(namePredicate, organPredicate, bloodTypePredicate));
+        boolean isExplain = argMultimap.getPreamble().trim().equalsIgnoreCase(CombinedCommand.EXPLAIN_FLAG);
+        return new CombinedCommand(new CombinedPredicate(namePredicate, organPredicate, bloodTypePredicate),
+                isExplain);
     }
 }
 
@@ -7,6 +7,7 @@ import java.util.Optional;
 /**
  * Contains command templates for tab completion functionality.
  * Easily extendible for new commands.
+ * A command word may be abbreviated in the same way as for {@link AddressBookParser}.
  */
 public class CommandTemplates {
 
@@ -70,7 +71,7 @@ public class CommandTemplates {
     /**
      * Gets the template for a given command word.
      *
-     * @param commandWord the command word (e.g., "add")
+     * @param commandWord the command word (e.g., "add"), or an abbreviation of it (e.g., "a")
      * @return Optional containing the template, or empty if no template exists
      */
     public static Optional<Template> getTemplate(String commandWord) {
@@ -78,7 +79,11 @@ public class CommandTemplates {
             return Optional.empty();
         }
         String normalizedCommand = normalizeCommandWord(commandWord);
-        return Optional.ofNullable(COMMAND_TEMPLATES.get(normalizedCommand));
+        Template template = COMMAND_TEMPLATES.get(normalizedCommand);
+        if (template != null) {
+            return Optional.of(template);
+        }
+        return AddressBookParser.completeCommandWord(normalizedCommand).map(COMMAND_TEMPLATES::get);
     }
 
     /**
@@ -88,11 +93,7 @@ public class CommandTemplates {
      * @return true if template exists, false otherwise
      */
     public static boolean hasTemplate(String commandWord) {
-        if (commandWord == null) {
-            return false;
-        }
-        String normalizedCommand = normalizeCommandWord(commandWord);
-        return COMMAND_TEMPLATES.containsKey(normalizedCommand);
+        return getTemplate(commandWord).isPresent();
     }
 
     /**
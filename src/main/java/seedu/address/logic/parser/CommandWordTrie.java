@@ -0,0 +1,109 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A prefix tree of command words, each stored with a value. Finding the command word that a prefix stands for takes
+ * time proportional to the length of the prefix, however many command words there are.
+ *
+ * A trie is not safe to modify while other threads use it, but once filled it can be read by any number of threads.
+ *
+ * @param <T> the type of the values stored with the command words.
+ */
+public class CommandWordTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Stores {@code value} with {@code commandWord}, replacing any value already stored with it.
+     */
+    public void put(String commandWord, T value) {
+        requireAllNonNull(commandWord, value);
+        checkArgument(!commandWord.isEmpty(), "Command word must not be empty");
+
+        boolean isNewWord = !get(commandWord).isPresent();
+        Node<T> node = root;
+        for (int i = 0; i <= commandWord.length(); i++) {
+            if (isNewWord) {
+                node.wordCount++;
+                node.lastWord = commandWord;
+            }
+            if (i < commandWord.length()) {
+                node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new Node<>());
+            }
+        }
+        node.word = commandWord;
+        node.value = value;
+    }
+
+    /**
+     * Returns the value stored with exactly {@code commandWord}, if there is one.
+     */
+    public Optional<T> get(String commandWord) {
+        Node<T> node = find(commandWord);
+        return node == null ? Optional.empty() : Optional.ofNullable(node.value);
+    }
+
+    /**
+     * Returns the command word that {@code prefix} stands for: the command word equal to it if there is one, or
+     * else the only command word that starts with it.
+     * Returns {@code Optional.empty()} if no command word, or more than one, starts with {@code prefix}.
+     */
+    public Optional<String> resolve(String prefix) {
+        Node<T> node = find(prefix);
+        if (node == null) {
+            return Optional.empty();
+        }
+        if (node.word != null) {
+            return Optional.of(node.word);
+        }
+        return node.wordCount == 1 ? Optional.of(node.lastWord) : Optional.empty();
+    }
+
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getWordsStartingWith(String prefix) {
+        List<String> words = new ArrayList<>();
+        Node<T> node = find(prefix);
+        if (node != null) {
+            collectWords(node, words);
+        }
+        return words;
+    }
+
+    private Node<T> find(String prefix) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static <T> void collectWords(Node<T> node, List<String> words) {
+        if (node.word != null) {
+            words.add(node.word);
+        }
+        node.children.values().forEach(child -> collectWords(child, words));
+    }
+
+    /**
+     * A node of the trie, which stands for the prefix spelt by the path to it from the root.
+     */
+    private static class Node<T> {
+        private final Map<Character, Node<T>> children = new TreeMap<>();
+        /** The command word that ends at this node, or null if none does. */
+        private String word;
+        private T value;
+        /** The number of command words that start with this node's prefix, and the last of them to be added. */
+        private int wordCount;
+        private String lastWord;
+    }
+}
@@ -13,7 +13,7 @@ import seedu.address.model.person.PriorityMatchesPredicate;
 /**
  * Parses input arguments and creates a new PriorityCommand object
  */
-public class PriorityCommandParser {
+public class PriorityCommandParser implements Parser<PriorityCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the PriorityCommand
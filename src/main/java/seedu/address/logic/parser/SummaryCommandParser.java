@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOODTYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import seedu.address.logic.commands.SummaryCommand;
+
+/**
+ * Parses input arguments and creates a new SummaryCommand object
+ */
+public class SummaryCommandParser implements Parser<SummaryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SummaryCommand
+     * and returns a SummaryCommand object for execution.
+     * The presence of {@code b/} and {@code r/} selects the blood type and priority breakdowns.
+     */
+    public SummaryCommand parse(String args) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BLOODTYPE, PREFIX_PRIORITY);
+        return new SummaryCommand(argMultimap.getValue(PREFIX_BLOODTYPE).isPresent(),
+                argMultimap.getValue(PREFIX_PRIORITY).isPresent());
+    }
+}
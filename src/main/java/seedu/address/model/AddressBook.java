@@ -3,10 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -67,6 +70,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, if there is one.
+     */
+    public Optional<Person> getSamePerson(Person person) {
+        requireNonNull(person);
+        return persons.getSamePerson(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -94,6 +105,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// transactions
+
+    /**
+     * Starts a transaction, during which changes are checked against the persons as changed so far, but the person
+     * list only shows them once the transaction is committed.
+     */
+    public void beginTransaction() {
+        persons.beginTransaction();
+    }
+
+    /**
+     * Applies the changes made during the transaction to the person list in a single pass.
+     */
+    public void commitTransaction() {
+        persons.commitTransaction();
+    }
+
+    /**
+     * Discards the changes made during the transaction.
+     */
+    public void rollbackTransaction() {
+        persons.rollbackTransaction();
+    }
+
     //// util methods
 
     @Override
@@ -108,6 +143,36 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the changes made since {@link #markSaved()} was last called.
+     * They are not known until it is first called.
+     */
+    @Override
+    public Optional<List<PersonChange>> getChangesSinceLastSave() {
+        return persons.getChanges();
+    }
+
+    /**
+     * Records that this address book has just been saved, so that only the changes made from now on are saved next.
+     */
+    public void markSaved() {
+        persons.clearChanges();
+    }
+
+    /**
+     * Returns the modification version of this address book, which changes every time its data is modified.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns the secondary indexes over the persons in this address book.
+     */
+    public PersonIndex getPersonIndex() {
+        return persons.getPersonIndex();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
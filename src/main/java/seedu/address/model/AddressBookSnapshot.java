@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * An immutable copy of the persons of an address book, as they were when the copy was taken.
+ *
+ * Taking a snapshot only copies the references to the persons, which are themselves immutable. Unlike copying into an
+ * {@link AddressBook}, it does not check the persons for duplicates, sort them or build any indexes over them.
+ * The changes since the address book was last saved are copied along with the persons.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    /** The changes since the address book was last saved, or null if they are not known. */
+    private final List<PersonChange> changes;
+
+    private AddressBookSnapshot(ObservableList<Person> persons, List<PersonChange> changes) {
+        this.persons = persons;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot of the persons in {@code source}. A snapshot is returned as is, as it cannot change.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        if (source instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) source;
+        }
+        List<Person> persons = List.copyOf(source.getPersonList());
+        return new AddressBookSnapshot(FXCollections.unmodifiableObservableList(FXCollections.observableList(persons)),
+                source.getChangesSinceLastSave().map(List::copyOf).orElse(null));
+    }
+
+    /**
+     * Returns a snapshot of the same persons as this one, whose changes since the last save also include the changes
+     * of {@code earlier}, a snapshot taken before this one that was never saved.
+     */
+    public AddressBookSnapshot after(AddressBookSnapshot earlier) {
+        requireNonNull(earlier);
+        if (changes == null || earlier.changes == null) {
+            return new AddressBookSnapshot(persons, null);
+        }
+        List<PersonChange> combinedChanges = new ArrayList<>(earlier.changes.size() + changes.size());
+        combinedChanges.addAll(earlier.changes);
+        combinedChanges.addAll(changes);
+        return new AddressBookSnapshot(persons, List.copyOf(combinedChanges));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Optional<List<PersonChange>> getChangesSinceLastSave() {
+        return Optional.ofNullable(changes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -0,0 +1,10 @@
+package seedu.address.model;
+
+/**
+ * The format that the address book data file is written in.
+ * Data files in any of these formats can be read, so changing the format converts the file on the next save.
+ */
+public enum DataFileFormat {
+    JSON,
+    BINARY
+}
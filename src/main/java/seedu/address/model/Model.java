@@ -5,7 +5,9 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.metrics.MetricsRegistry;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 
 /**
  * The API of the Model component.
@@ -52,6 +54,20 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the AddressBook.
+     * The version changes whenever the AddressBook data is modified, so equal versions mean unchanged data.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Records that the AddressBook has just been saved, so that the next save only needs the changes made from now on.
+     */
+    void markAddressBookSaved();
+
+    /** Returns the secondary indexes over the persons in the AddressBook */
+    PersonIndex getPersonIndex();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -76,6 +92,23 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Starts a transaction. Persons added, edited and deleted from now on are checked against the address book as
+     * changed so far, but only appear in the person lists once {@link #commitTransaction()} is called, all at once.
+     * Transactions cannot be nested.
+     */
+    void beginTransaction();
+
+    /**
+     * Applies the changes made during the transaction to the address book.
+     */
+    void commitTransaction();
+
+    /**
+     * Discards the changes made during the transaction, leaving the address book as it was when it began.
+     */
+    void rollbackTransaction();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -87,4 +120,7 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /** Returns the registry that the latencies and counts of the commands run on this model are recorded in */
+    MetricsRegistry getMetrics();
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,8 +12,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.metrics.MetricsRegistry;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,6 +27,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final MetricsRegistry metrics = new MetricsRegistry();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -88,6 +93,21 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        addressBook.markSaved();
+    }
+
+    @Override
+    public PersonIndex getPersonIndex() {
+        return addressBook.getPersonIndex();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -112,6 +132,21 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        addressBook.commitTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        addressBook.rollbackTransaction();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -131,7 +166,14 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            Set<Person> matches = ((IndexedPredicate) predicate).resolve(addressBook.getPersonIndex());
+            IndexResolvedPredicate resolvedPredicate = new IndexResolvedPredicate(predicate, matches);
+            filteredPersons.setPredicate(resolvedPredicate);
+            resolvedPredicate.release();
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
 
         if (predicate instanceof NameContainsKeywordsPredicate) {
             NameContainsKeywordsPredicate namePredicate = (NameContainsKeywordsPredicate) predicate;
@@ -142,6 +184,13 @@ public class ModelManager implements Model {
         }
     }
 
+    //=========== Metrics ====================================================================================
+
+    @Override
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -159,4 +208,30 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A predicate that answers from a set of persons resolved from the {@code PersonIndex} while the filtered list
+     * is refiltered, and falls back to the original predicate for persons added or edited afterwards.
+     */
+    private static class IndexResolvedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> matches;
+
+        IndexResolvedPredicate(Predicate<Person> predicate, Set<Person> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        /**
+         * Stops answering from the resolved set, which goes stale as soon as the address book changes.
+         */
+        void release() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches != null ? matches.contains(person) : predicate.test(person);
+        }
+    }
+
 }
@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +18,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the changes made to the persons since the address book was last saved, in the order they were made.
+     * Returns an empty {@code Optional} if they are not known, in which case the whole address book must be saved.
+     */
+    default Optional<List<PersonChange>> getChangesSinceLastSave() {
+        return Optional.empty();
+    }
+
 }
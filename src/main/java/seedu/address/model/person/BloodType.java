@@ -14,6 +14,8 @@ public class BloodType {
 
     public final String bloodType;
 
+    private final BloodTypeEnum bloodTypeEnum;
+
     /**
      * Constructs a {@code Priority}.
      *
@@ -24,6 +26,7 @@ public class BloodType {
         bloodType = bloodType.toUpperCase();
         checkArgument(isValidBloodType(bloodType), MESSAGE_CONSTRAINTS);
         this.bloodType = bloodType.toUpperCase();
+        this.bloodTypeEnum = BloodTypeEnum.fromLabel(bloodType);
     }
 
     /**
@@ -34,6 +37,17 @@ public class BloodType {
         return BloodTypeEnum.isValidBloodType(bloodType);
     }
 
+    public BloodTypeEnum getBloodTypeEnum() {
+        return bloodTypeEnum;
+    }
+
+    /**
+     * Returns the bit identifying this blood type, as given by {@link BloodTypeEnum#getMask()}.
+     */
+    public byte getMask() {
+        return bloodTypeEnum.getMask();
+    }
+
     @Override
     public String toString() {
         return bloodType;
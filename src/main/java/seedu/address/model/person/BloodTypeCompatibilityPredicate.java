@@ -1,10 +1,6 @@
 package seedu.address.model.person;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -12,22 +8,9 @@ import seedu.address.commons.util.ToStringBuilder;
  * Tests that a {@code Person}'s {@code BloodType} is compatible with the specified donor blood type.
  * Finds recipients who can receive from the specified donor.
  */
-public class BloodTypeCompatibilityPredicate implements Predicate<Person> {
-    private static final Map<String, List<String>> COMPATIBLE_RECIPIENTS = new HashMap<>();
-
-    static {
-        // Map of recipient blood type -> list of compatible donor blood types
-        COMPATIBLE_RECIPIENTS.put("O-", Arrays.asList("O-"));
-        COMPATIBLE_RECIPIENTS.put("O+", Arrays.asList("O-", "O+"));
-        COMPATIBLE_RECIPIENTS.put("A-", Arrays.asList("O-", "A-"));
-        COMPATIBLE_RECIPIENTS.put("A+", Arrays.asList("O-", "O+", "A-", "A+"));
-        COMPATIBLE_RECIPIENTS.put("B-", Arrays.asList("O-", "B-"));
-        COMPATIBLE_RECIPIENTS.put("B+", Arrays.asList("O-", "O+", "B-", "B+"));
-        COMPATIBLE_RECIPIENTS.put("AB-", Arrays.asList("O-", "A-", "B-", "AB-"));
-        COMPATIBLE_RECIPIENTS.put("AB+", Arrays.asList("O-", "O+", "A-", "A+", "B-", "B+", "AB-", "AB+"));
-    }
-
+public class BloodTypeCompatibilityPredicate implements IndexedPredicate {
     private final BloodType donorBloodType;
+    private final byte recipientsMask;
 
     /**
      * Constructs a BloodTypeCompatibilityPredicate.
@@ -36,15 +19,22 @@ public class BloodTypeCompatibilityPredicate implements Predicate<Person> {
      */
     public BloodTypeCompatibilityPredicate(BloodType donorBloodType) {
         this.donorBloodType = donorBloodType;
+        this.recipientsMask = donorBloodType.getBloodTypeEnum().getCompatibleRecipientsMask();
     }
 
     @Override
     public boolean test(Person person) {
-        String donorType = donorBloodType.bloodType.toUpperCase();
-        String recipientType = person.getBloodType().bloodType.toUpperCase();
+        return (recipientsMask & person.getBloodType().getMask()) != 0;
+    }
 
-        List<String> compatibleDonors = COMPATIBLE_RECIPIENTS.get(recipientType);
-        return compatibleDonors != null && compatibleDonors.contains(donorType);
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        return index.getPersonsWithBloodTypes(recipientsMask);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countPersonsWithBloodTypes(recipientsMask);
     }
 
     @Override
@@ -71,4 +61,3 @@ public class BloodTypeCompatibilityPredicate implements Predicate<Person> {
         return new ToStringBuilder(this).add("donorBloodType", donorBloodType).toString();
     }
 }
-
@@ -4,24 +4,51 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Represents all possible blood types.
+ * Each blood type is identified by a single bit ({@code 1 << ordinal()}), so a set of blood types fits in a byte and
+ * compatibility between two blood types is a single AND against a precomputed mask.
  */
 public enum BloodTypeEnum {
-    A_POSITIVE("A+"),
-    A_NEGATIVE("A-"),
-    B_POSITIVE("B+"),
-    B_NEGATIVE("B-"),
-    AB_POSITIVE("AB+"),
-    AB_NEGATIVE("AB-"),
-    O_POSITIVE("O+"),
-    O_NEGATIVE("O-");
+    A_POSITIVE("A+", BloodTypeEnum.ANTIGEN_A | BloodTypeEnum.ANTIGEN_RH),
+    A_NEGATIVE("A-", BloodTypeEnum.ANTIGEN_A),
+    B_POSITIVE("B+", BloodTypeEnum.ANTIGEN_B | BloodTypeEnum.ANTIGEN_RH),
+    B_NEGATIVE("B-", BloodTypeEnum.ANTIGEN_B),
+    AB_POSITIVE("AB+", BloodTypeEnum.ANTIGEN_A | BloodTypeEnum.ANTIGEN_B | BloodTypeEnum.ANTIGEN_RH),
+    AB_NEGATIVE("AB-", BloodTypeEnum.ANTIGEN_A | BloodTypeEnum.ANTIGEN_B),
+    O_POSITIVE("O+", BloodTypeEnum.ANTIGEN_RH),
+    O_NEGATIVE("O-", 0);
+
+    private static final int ANTIGEN_A = 1;
+    private static final int ANTIGEN_B = 1 << 1;
+    private static final int ANTIGEN_RH = 1 << 2;
+
+    private static final BloodTypeEnum[] VALUES = values();
+
+    // COMPATIBLE_DONORS[r] has the bit of every blood type that recipient r can receive from,
+    // COMPATIBLE_RECIPIENTS[d] has the bit of every blood type that donor d can donate to.
+    private static final byte[] COMPATIBLE_DONORS = new byte[VALUES.length];
+    private static final byte[] COMPATIBLE_RECIPIENTS = new byte[VALUES.length];
+
+    static {
+        // A donor is compatible with a recipient if the recipient has every antigen the donor has.
+        for (BloodTypeEnum recipient : VALUES) {
+            for (BloodTypeEnum donor : VALUES) {
+                if ((donor.antigens & ~recipient.antigens) == 0) {
+                    COMPATIBLE_DONORS[recipient.ordinal()] |= donor.getMask();
+                    COMPATIBLE_RECIPIENTS[donor.ordinal()] |= recipient.getMask();
+                }
+            }
+        }
+    }
 
     private final String label;
+    private final int antigens;
 
     /**
      * Constructor for each enum constant.
      */
-    BloodTypeEnum(String label) {
+    BloodTypeEnum(String label, int antigens) {
         this.label = label;
+        this.antigens = antigens;
     }
     /**
      * Returns true if a given string is a valid blood type.
@@ -38,6 +65,50 @@ public enum BloodTypeEnum {
         return false;
     }
 
+    /**
+     * Returns the blood type whose label matches {@code label}, ignoring case.
+     *
+     * @throws IllegalArgumentException if {@code label} is not a valid blood type.
+     */
+    public static BloodTypeEnum fromLabel(String label) {
+        requireNonNull(label);
+        for (BloodTypeEnum type : VALUES) {
+            if (type.getLabel().equalsIgnoreCase(label)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(BloodType.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the blood type whose {@link #getMask()} is {@code mask}.
+     * {@code mask} must have exactly one bit set.
+     */
+    public static BloodTypeEnum fromMask(int mask) {
+        return VALUES[Integer.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * Returns the bit identifying this blood type.
+     */
+    public byte getMask() {
+        return (byte) (1 << ordinal());
+    }
+
+    /**
+     * Returns the bits of the blood types that a recipient of this blood type can receive from.
+     */
+    public byte getCompatibleDonorsMask() {
+        return COMPATIBLE_DONORS[ordinal()];
+    }
+
+    /**
+     * Returns the bits of the blood types that a donor of this blood type can donate to.
+     */
+    public byte getCompatibleRecipientsMask() {
+        return COMPATIBLE_RECIPIENTS[ordinal()];
+    }
+
     /**
      *  Returns the label of the blood type
      */
@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -9,7 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
  * Tests that a {@code Person}'s {@code BloodType} matches the given blood types.
  * Returns true as long as any of the blood types match
  */
-public class BloodTypeMatchesPredicate implements Predicate<Person> {
+public class BloodTypeMatchesPredicate implements IndexedPredicate {
     private final List<BloodType> bloodTypes;
 
     public BloodTypeMatchesPredicate(List<BloodType> bloodTypes) {
@@ -21,6 +21,15 @@ public class BloodTypeMatchesPredicate implements Predicate<Person> {
         return bloodTypes.contains(person.getBloodType());
     }
 
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        Set<Person> matches = PersonIndex.newPersonSet();
+        for (BloodType bloodType : bloodTypes) {
+            matches.addAll(index.getPersonsWithBloodType(bloodType.getBloodTypeEnum()));
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
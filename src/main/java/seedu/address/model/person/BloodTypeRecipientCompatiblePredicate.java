@@ -1,10 +1,7 @@
 package seedu.address.model.person;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -12,40 +9,37 @@ import seedu.address.commons.util.ToStringBuilder;
  * Tests that a {@code Person}'s {@code BloodType} is compatible to donate to the specified recipient blood types.
  * Returns true if the person can donate to any of the specified recipient blood types.
  */
-public class BloodTypeRecipientCompatiblePredicate implements Predicate<Person> {
-    private static final Map<String, List<String>> DONOR_TO_RECIPIENT_MAP = new HashMap<>();
-
-    static {
-        // Map donor blood types to compatible recipient blood types
-        DONOR_TO_RECIPIENT_MAP.put("O-", Arrays.asList("O-", "O+", "A-", "A+", "B-", "B+", "AB-", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("O+", Arrays.asList("O+", "A+", "B+", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("A-", Arrays.asList("A-", "A+", "AB-", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("A+", Arrays.asList("A+", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("B-", Arrays.asList("B-", "B+", "AB-", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("B+", Arrays.asList("B+", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("AB-", Arrays.asList("AB-", "AB+"));
-        DONOR_TO_RECIPIENT_MAP.put("AB+", Arrays.asList("AB+"));
-    }
-
+public class BloodTypeRecipientCompatiblePredicate implements IndexedPredicate {
     private final List<BloodType> recipientBloodTypes;
+    private final byte donorsMask;
 
+    /**
+     * Constructs a BloodTypeRecipientCompatiblePredicate.
+     *
+     * @param recipientBloodTypes The blood types of the recipients.
+     */
     public BloodTypeRecipientCompatiblePredicate(List<BloodType> recipientBloodTypes) {
         this.recipientBloodTypes = recipientBloodTypes;
+        byte mask = 0;
+        for (BloodType recipientBloodType : recipientBloodTypes) {
+            mask |= recipientBloodType.getBloodTypeEnum().getCompatibleDonorsMask();
+        }
+        this.donorsMask = mask;
     }
 
     @Override
     public boolean test(Person person) {
-        String donorBloodType = person.getBloodType().toString().toUpperCase();
-        List<String> compatibleRecipients = DONOR_TO_RECIPIENT_MAP.get(donorBloodType);
+        return (donorsMask & person.getBloodType().getMask()) != 0;
+    }
 
-        if (compatibleRecipients == null) {
-            return false;
-        }
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        return index.getPersonsWithBloodTypes(donorsMask);
+    }
 
-        // Check if the donor can donate to any of the specified recipient blood types
-        return recipientBloodTypes.stream()
-                .map(type -> type.toString().toUpperCase())
-                .anyMatch(compatibleRecipients::contains);
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.countPersonsWithBloodTypes(donorsMask);
     }
 
     @Override
@@ -72,4 +66,3 @@ public class BloodTypeRecipientCompatiblePredicate implements Predicate<Person>
         return new ToStringBuilder(this).add("recipient blood types", recipientBloodTypes).toString();
     }
 }
-
@@ -1,18 +1,22 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person} matches all specified criteria.
  * Combines name, organ, and blood type predicates with AND logic.
+ * When resolved from a {@code PersonIndex}, the criteria are evaluated according to a {@link CombinedQueryPlan}.
  */
-public class CombinedPredicate implements Predicate<Person> {
+public class CombinedPredicate implements IndexedPredicate {
     private final Optional<NameExactMatchPredicate> namePredicate;
     private final Optional<OrganContainsSubstringPredicate> organPredicate;
     private final Optional<BloodTypeRecipientCompatiblePredicate> bloodTypePredicate;
+    private final CombinedQueryPlan.Criterion[] criteria;
 
     /**
      * Constructs a CombinedPredicate with the given predicates.
@@ -24,15 +28,52 @@ public class CombinedPredicate implements Predicate<Person> {
         this.namePredicate = namePredicate;
         this.organPredicate = organPredicate;
         this.bloodTypePredicate = bloodTypePredicate;
+
+        List<CombinedQueryPlan.Criterion> presentCriteria = new ArrayList<>();
+        namePredicate.ifPresent(p -> presentCriteria.add(new CombinedQueryPlan.Criterion("name", p)));
+        organPredicate.ifPresent(p -> presentCriteria.add(new CombinedQueryPlan.Criterion("organ", p)));
+        bloodTypePredicate.ifPresent(p -> presentCriteria.add(new CombinedQueryPlan.Criterion("blood type", p)));
+        this.criteria = presentCriteria.toArray(new CombinedQueryPlan.Criterion[0]);
     }
 
     @Override
     public boolean test(Person person) {
-        boolean nameMatches = namePredicate.map(p -> p.test(person)).orElse(true);
-        boolean organMatches = organPredicate.map(p -> p.test(person)).orElse(true);
-        boolean bloodTypeMatches = bloodTypePredicate.map(p -> p.test(person)).orElse(true);
+        for (CombinedQueryPlan.Criterion criterion : criteria) {
+            if (!criterion.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the plan for evaluating this predicate against {@code index}.
+     */
+    public CombinedQueryPlan plan(PersonIndex index) {
+        return CombinedQueryPlan.plan(criteria, index);
+    }
 
-        return nameMatches && organMatches && bloodTypeMatches;
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        return plan(index).execute(index);
+    }
+
+    /**
+     * Returns a predicate that tests persons as this one does, but is resolved by executing {@code plan} instead of
+     * planning again. {@code plan} must have been planned from this predicate against the index it is resolved from.
+     */
+    public IndexedPredicate withPlan(CombinedQueryPlan plan) {
+        return new IndexedPredicate() {
+            @Override
+            public boolean test(Person person) {
+                return CombinedPredicate.this.test(person);
+            }
+
+            @Override
+            public Set<Person> resolve(PersonIndex index) {
+                return plan.execute(index);
+            }
+        };
     }
 
     @Override
@@ -68,4 +109,3 @@ public class CombinedPredicate implements Predicate<Person> {
                 .toString();
     }
 }
-
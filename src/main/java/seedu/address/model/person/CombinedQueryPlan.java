@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * An execution plan for a {@code CombinedPredicate} against a {@code PersonIndex}.
+ * The criterion with the fewest estimated matches drives the query by resolving its persons from the index; the
+ * remaining criteria are applied to those persons as residual filters, most selective first.
+ */
+public class CombinedQueryPlan {
+
+    private final Criterion[] criteria;
+    private final int[] estimates;
+    private final int totalPersons;
+
+    private CombinedQueryPlan(Criterion[] criteria, int[] estimates, int totalPersons) {
+        this.criteria = criteria;
+        this.estimates = estimates;
+        this.totalPersons = totalPersons;
+    }
+
+    /**
+     * Plans the conjunction of {@code criteria} against {@code index}.
+     */
+    static CombinedQueryPlan plan(Criterion[] criteria, PersonIndex index) {
+        int[] estimates = new int[criteria.length];
+        for (int i = 0; i < criteria.length; i++) {
+            estimates[i] = criteria[i].predicate.estimateMatches(index);
+        }
+
+        // Stable sort, so that ties keep the order the criteria were given in.
+        Integer[] order = new Integer[criteria.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingInt(i -> estimates[i]));
+
+        Criterion[] orderedCriteria = new Criterion[criteria.length];
+        int[] orderedEstimates = new int[criteria.length];
+        for (int i = 0; i < order.length; i++) {
+            orderedCriteria[i] = criteria[order[i]];
+            orderedEstimates[i] = estimates[order[i]];
+        }
+        return new CombinedQueryPlan(orderedCriteria, orderedEstimates, index.getAllPersons().size());
+    }
+
+    /**
+     * Returns the persons in {@code index} that satisfy every criterion of this plan.
+     */
+    public Set<Person> execute(PersonIndex index) {
+        if (criteria.length == 0) {
+            Set<Person> allPersons = PersonIndex.newPersonSet();
+            allPersons.addAll(index.getAllPersons());
+            return allPersons;
+        }
+
+        Set<Person> candidates = criteria[0].predicate.resolve(index);
+        if (criteria.length == 1) {
+            return candidates;
+        }
+
+        Set<Person> matches = PersonIndex.newPersonSet();
+        for (Person person : candidates) {
+            if (passesResiduals(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private boolean passesResiduals(Person person) {
+        for (int i = 1; i < criteria.length; i++) {
+            if (!criteria[i].test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a description of the plan, naming the driving index and the residual filters with their estimates.
+     */
+    public String describe() {
+        if (criteria.length == 0) {
+            return "Return all " + totalPersons + " persons";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Drive from ").append(criteria[0].name).append(" index (estimated ").append(estimates[0])
+                .append(" of ").append(totalPersons).append(" persons)");
+        if (criteria.length == 1) {
+            return sb.append(", no residual filters").toString();
+        }
+
+        sb.append(", then filter by ");
+        for (int i = 1; i < criteria.length; i++) {
+            if (i > 1) {
+                sb.append(", ");
+            }
+            sb.append(criteria[i].name).append(" (estimated ").append(estimates[i]).append(")");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    /**
+     * A named criterion of a combined query.
+     */
+    static class Criterion {
+        private final String name;
+        private final IndexedPredicate predicate;
+
+        Criterion(String name, IndexedPredicate predicate) {
+            this.name = name;
+            this.predicate = predicate;
+        }
+
+        boolean test(Person person) {
+            return predicate.test(person);
+        }
+    }
+}
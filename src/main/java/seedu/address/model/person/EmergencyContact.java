@@ -57,7 +57,7 @@ public class EmergencyContact {
 
     private boolean isValidPhoneFormat(String phone) {
         assert phone != null : "Phone should not be null";
-        return phone.matches("\\d{8}");
+        return Phone.isValidPhone(phone);
     }
 
     public Name getName() {
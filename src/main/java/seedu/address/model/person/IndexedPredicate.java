@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} whose matching persons can be looked up from a {@link PersonIndex}
+ * instead of being tested one by one.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate.
+     * The result must contain exactly the indexed persons for which {@link #test(Person)} returns true.
+     */
+    Set<Person> resolve(PersonIndex index);
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} that satisfy this predicate.
+     * Implementations should answer from the sizes of the index postings without collecting the persons.
+     */
+    default int estimateMatches(PersonIndex index) {
+        return resolve(index).size();
+    }
+}
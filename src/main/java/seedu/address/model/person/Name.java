@@ -3,6 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +25,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
     public final String fullName;
 
+    /** The case-folded {@code fullName} and its words, built on first use. */
+    private String foldedName;
+    private String[] foldedTokens;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -27,7 +40,7 @@ public class Name {
      */
     public Name(String name) {
         requireNonNull(name);
-        name = name.replaceAll("\\s+", " "); // replaces all whitespaces with basic space character
+        name = normalizeWhitespace(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
@@ -36,9 +49,65 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
+    }
+
+    /**
+     * Replaces each run of whitespace in {@code name} with a basic space character.
+     * Names that are already normalized, as most are, are returned without running the regex.
+     */
+    private static String normalizeWhitespace(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean isNextWhitespace = i + 1 < name.length() && Character.isWhitespace(name.charAt(i + 1));
+            if (Character.isWhitespace(c) && (c != ' ' || isNextWhitespace)) {
+                return WHITESPACE_PATTERN.matcher(name).replaceAll(" ");
+            }
+        }
+        return name;
     }
 
+    /**
+     * Returns this name, case-folded by {@link StringUtil#foldCase(String)}.
+     */
+    String getFoldedName() {
+        String name = foldedName;
+        if (name == null) {
+            name = StringUtil.foldCase(fullName);
+            foldedName = name;
+        }
+        return name;
+    }
+
+    /**
+     * Returns the words of this name, case-folded by {@link StringUtil#foldCase(String)}.
+     * The returned array must not be modified.
+     */
+    String[] getFoldedTokens() {
+        String[] tokens = foldedTokens;
+        if (tokens == null) {
+            tokens = tokenize(getFoldedName());
+            foldedTokens = tokens;
+        }
+        return tokens;
+    }
+
+    /**
+     * Splits {@code name} on single spaces, which are the only whitespace left in a constructed name.
+     */
+    private static String[] tokenize(String name) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= name.length(); i++) {
+            if (i == name.length() || name.charAt(i) == ' ') {
+                if (i > start) {
+                    tokens.add(name.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
 
     @Override
     public String toString() {
@@ -1,25 +1,75 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches all of the keywords given.
+ * Keywords are case-folded once on construction and compared against the case-folded words of each name.
+ * When resolved from a {@code PersonIndex}, the result is the intersection of the name token postings of all keywords.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate} matching names that contain every one of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            foldedKeywords[i] = StringUtil.foldCase(keywords.get(i).trim());
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .allMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String[] nameTokens = person.getName().getFoldedTokens();
+        for (String keyword : foldedKeywords) {
+            if (!contains(nameTokens, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        if (foldedKeywords.length == 0) {
+            Set<Person> matches = PersonIndex.newPersonSet();
+            matches.addAll(index.getAllPersons());
+            return matches;
+        }
+
+        List<Set<Person>> postings = new ArrayList<>(foldedKeywords.length);
+        for (String keyword : foldedKeywords) {
+            postings.add(index.getPersonsWithNameToken(keyword));
+        }
+        // Drive the intersection from the shortest posting list and probe the others.
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> matches = PersonIndex.newPersonSet();
+        for (Person person : postings.get(0)) {
+            if (postings.stream().allMatch(posting -> posting.contains(person))) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean contains(String[] tokens, String keyword) {
+        for (String token : tokens) {
+            if (token.equals(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
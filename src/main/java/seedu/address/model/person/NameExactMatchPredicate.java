@@ -1,17 +1,23 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches the given name exactly (case-insensitive).
  */
-public class NameExactMatchPredicate implements Predicate<Person> {
+public class NameExactMatchPredicate implements IndexedPredicate {
     private final String name;
+    private final String foldedName;
 
+    /**
+     * Constructs a {@code NameExactMatchPredicate} matching persons named {@code name}, ignoring case.
+     */
     public NameExactMatchPredicate(String name) {
         this.name = name;
+        this.foldedName = StringUtil.foldCase(name);
     }
 
     @Override
@@ -19,6 +25,18 @@ public class NameExactMatchPredicate implements Predicate<Person> {
         return person.getName().fullName.equalsIgnoreCase(name);
     }
 
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        Set<Person> matches = PersonIndex.newPersonSet();
+        matches.addAll(index.getPersonsWithFoldedName(foldedName));
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        return index.getPersonsWithFoldedName(foldedName).size();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's organ in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidOrgan(String)}
@@ -36,7 +38,7 @@ public class Organ {
      * Returns true if a given string is a valid organ.
      */
     public static boolean isValidOrgan(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isLetterWords(test);
     }
 
 
@@ -1,6 +1,6 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -8,16 +8,40 @@ import seedu.address.commons.util.ToStringBuilder;
  * Tests that a {@code Person}'s {@code Organ} contains the given substring.
  * Keyword matching is case insensitive and uses substring search.
  */
-public class OrganContainsSubstringPredicate implements Predicate<Person> {
+public class OrganContainsSubstringPredicate implements IndexedPredicate {
     private final String substring;
+    private final String upperCaseSubstring;
 
+    /**
+     * Constructs an {@code OrganContainsSubstringPredicate} matching organs that contain {@code substring}.
+     */
     public OrganContainsSubstringPredicate(String substring) {
         this.substring = substring;
+        // Organ names are stored in upper case, so the substring only needs to be converted once.
+        this.upperCaseSubstring = substring.toUpperCase();
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getOrgan().organName.toLowerCase().contains(substring.toLowerCase());
+        return person.getOrgan().organName.contains(upperCaseSubstring);
+    }
+
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        Set<Person> matches = PersonIndex.newPersonSet();
+        for (String organName : index.getOrganNamesContaining(upperCaseSubstring)) {
+            matches.addAll(index.getPersonsWithOrgan(organName));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndex index) {
+        int count = 0;
+        for (String organName : index.getOrganNamesContaining(upperCaseSubstring)) {
+            count += index.getPersonsWithOrgan(organName).size();
+        }
+        return count;
     }
 
     @Override
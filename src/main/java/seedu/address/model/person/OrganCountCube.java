@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Counts of persons by organ name, blood type and priority, kept up to date as persons are added and removed so that
+ * summaries never need to scan the person list.
+ *
+ * Each organ name maps to a flat array of counts with one cell per (blood type, priority) pair. Persons without a
+ * blood type are counted in an extra blood type row.
+ */
+public class OrganCountCube {
+
+    private static final int BLOOD_TYPE_ROWS = BloodTypeEnum.values().length + 1;
+    private static final int UNKNOWN_BLOOD_TYPE_ROW = BLOOD_TYPE_ROWS - 1;
+    private static final int PRIORITY_COLUMNS = Priority.MAX_PRIORITY - Priority.MIN_PRIORITY + 1;
+
+    private final SortedMap<String, int[]> countsByOrgan = new TreeMap<>();
+
+    /**
+     * Returns the names of all organs that at least one counted person has, in ascending order.
+     */
+    public Set<String> getOrganNames() {
+        return Collections.unmodifiableSet(countsByOrgan.keySet());
+    }
+
+    /**
+     * Returns the number of persons with organ {@code organName}.
+     */
+    public int count(String organName) {
+        requireNonNull(organName);
+        int[] counts = countsByOrgan.get(organName);
+        if (counts == null) {
+            return 0;
+        }
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of persons with organ {@code organName} and blood type {@code bloodType}.
+     */
+    public int count(String organName, BloodTypeEnum bloodType) {
+        requireNonNull(organName);
+        requireNonNull(bloodType);
+        int[] counts = countsByOrgan.get(organName);
+        if (counts == null) {
+            return 0;
+        }
+        int total = 0;
+        int rowStart = bloodType.ordinal() * PRIORITY_COLUMNS;
+        for (int column = 0; column < PRIORITY_COLUMNS; column++) {
+            total += counts[rowStart + column];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of persons with organ {@code organName} and priority {@code priority}.
+     */
+    public int count(String organName, Priority priority) {
+        requireNonNull(organName);
+        requireNonNull(priority);
+        int[] counts = countsByOrgan.get(organName);
+        if (counts == null) {
+            return 0;
+        }
+        int total = 0;
+        int column = priority.priority - Priority.MIN_PRIORITY;
+        for (int row = 0; row < BLOOD_TYPE_ROWS; row++) {
+            total += counts[row * PRIORITY_COLUMNS + column];
+        }
+        return total;
+    }
+
+    /**
+     * Counts {@code person}.
+     */
+    void add(Person person) {
+        int[] counts = countsByOrgan.computeIfAbsent(person.getOrgan().organName,
+                unused -> new int[BLOOD_TYPE_ROWS * PRIORITY_COLUMNS]);
+        counts[cellOf(person)]++;
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been counted.
+     */
+    void remove(Person person) {
+        String organName = person.getOrgan().organName;
+        int[] counts = countsByOrgan.get(organName);
+        assert counts != null && counts[cellOf(person)] > 0 : "Person should have been counted";
+        counts[cellOf(person)]--;
+        if (count(organName) == 0) {
+            countsByOrgan.remove(organName);
+        }
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    void clear() {
+        countsByOrgan.clear();
+    }
+
+    private static int cellOf(Person person) {
+        int row = person.getBloodType() == null
+                ? UNKNOWN_BLOOD_TYPE_ROW
+                : person.getBloodType().getBloodTypeEnum().ordinal();
+        int column = person.getPriority().priority - Priority.MIN_PRIORITY;
+        return row * PRIORITY_COLUMNS + column;
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A single change made to a {@link UniquePersonList}: a person added, edited or removed, or all persons removed.
+ * Guarantees: immutable.
+ */
+public class PersonChange {
+
+    /**
+     * The kinds of change that can be made to the list.
+     */
+    public enum Type {
+        ADD,
+        EDIT,
+        REMOVE,
+        CLEAR
+    }
+
+    private static final PersonChange CLEARED = new PersonChange(Type.CLEAR, null, null);
+
+    private final Type type;
+    private final Person target;
+    private final Person person;
+
+    private PersonChange(Type type, Person target, Person person) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns the change of {@code person} being added.
+     */
+    public static PersonChange added(Person person) {
+        requireNonNull(person);
+        return new PersonChange(Type.ADD, null, person);
+    }
+
+    /**
+     * Returns the change of {@code target} being replaced by {@code editedPerson}.
+     */
+    public static PersonChange edited(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new PersonChange(Type.EDIT, target, editedPerson);
+    }
+
+    /**
+     * Returns the change of {@code person} being removed.
+     */
+    public static PersonChange removed(Person person) {
+        requireNonNull(person);
+        return new PersonChange(Type.REMOVE, person, null);
+    }
+
+    /**
+     * Returns the change of all persons being removed.
+     */
+    public static PersonChange cleared() {
+        return CLEARED;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person as it was before an edit or removal, or null for other changes.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person as it is after an addition or edit, or null for other changes.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(person, otherChange.person);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("target", target)
+                .add("person", person)
+                .toString();
+    }
+}
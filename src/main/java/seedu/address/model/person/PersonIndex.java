@@ -0,0 +1,202 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary indexes over the persons of a {@code UniquePersonList}, keyed by organ name, blood type, priority,
+ * case-folded full name and case-folded name token. The distinct organ names are additionally indexed by trigram for
+ * substring lookups, and persons are counted by organ, blood type and priority in an {@link OrganCountCube}.
+ * The index is kept up to date by the owning {@code UniquePersonList}; it is read-only to everyone else.
+ *
+ * Persons are held by reference, so the sets returned here contain exactly the instances stored in the list.
+ */
+public class PersonIndex {
+
+    private final Set<Person> allPersons = newPersonSet();
+    private final Map<String, Set<Person>> personsByOrgan = new HashMap<>();
+    private final Map<BloodTypeEnum, Set<Person>> personsByBloodType = new EnumMap<>(BloodTypeEnum.class);
+    private final Map<Priority, Set<Person>> personsByPriority = new HashMap<>();
+    private final Map<String, Set<Person>> personsByFoldedName = new HashMap<>();
+    private final Map<String, Set<Person>> personsByNameToken = new HashMap<>();
+    private final TrigramIndex organNameTrigrams = new TrigramIndex();
+    private final OrganCountCube organCounts = new OrganCountCube();
+
+    /**
+     * Returns every indexed person.
+     */
+    public Set<Person> getAllPersons() {
+        return Collections.unmodifiableSet(allPersons);
+    }
+
+    /**
+     * Returns the counts of indexed persons by organ, blood type and priority.
+     */
+    public OrganCountCube getOrganCounts() {
+        return organCounts;
+    }
+
+    /**
+     * Returns the names of all organs that at least one indexed person has, in upper case.
+     */
+    public Set<String> getOrganNames() {
+        return Collections.unmodifiableSet(personsByOrgan.keySet());
+    }
+
+    /**
+     * Returns the names of all indexed organs that contain {@code upperCaseSubstring}, which must be in upper case.
+     */
+    public Set<String> getOrganNamesContaining(String upperCaseSubstring) {
+        requireNonNull(upperCaseSubstring);
+        return organNameTrigrams.findContaining(upperCaseSubstring);
+    }
+
+    /**
+     * Returns the persons whose organ name is exactly {@code organName} (in upper case).
+     */
+    public Set<Person> getPersonsWithOrgan(String organName) {
+        requireNonNull(organName);
+        return unmodifiableOrEmpty(personsByOrgan.get(organName));
+    }
+
+    /**
+     * Returns the persons with blood type {@code bloodType}.
+     */
+    public Set<Person> getPersonsWithBloodType(BloodTypeEnum bloodType) {
+        requireNonNull(bloodType);
+        return unmodifiableOrEmpty(personsByBloodType.get(bloodType));
+    }
+
+    /**
+     * Returns the persons whose blood type bit, as given by {@link BloodTypeEnum#getMask()}, is set in {@code mask}.
+     */
+    public Set<Person> getPersonsWithBloodTypes(byte mask) {
+        Set<Person> persons = newPersonSet();
+        for (int remaining = mask & 0xff; remaining != 0; remaining &= remaining - 1) {
+            persons.addAll(getPersonsWithBloodType(BloodTypeEnum.fromMask(Integer.lowestOneBit(remaining))));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons whose blood type bit is set in {@code mask}, without collecting them.
+     */
+    public int countPersonsWithBloodTypes(byte mask) {
+        int count = 0;
+        for (int remaining = mask & 0xff; remaining != 0; remaining &= remaining - 1) {
+            count += getPersonsWithBloodType(BloodTypeEnum.fromMask(Integer.lowestOneBit(remaining))).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the persons with priority {@code priority}.
+     */
+    public Set<Person> getPersonsWithPriority(Priority priority) {
+        requireNonNull(priority);
+        return unmodifiableOrEmpty(personsByPriority.get(priority));
+    }
+
+    /**
+     * Returns the persons whose full name, case-folded by
+     * {@link seedu.address.commons.util.StringUtil#foldCase(String)}, is exactly {@code foldedName}.
+     */
+    public Set<Person> getPersonsWithFoldedName(String foldedName) {
+        requireNonNull(foldedName);
+        return unmodifiableOrEmpty(personsByFoldedName.get(foldedName));
+    }
+
+    /**
+     * Returns the persons whose name contains the word {@code foldedToken}, which must be case-folded by
+     * {@link seedu.address.commons.util.StringUtil#foldCase(String)}.
+     */
+    public Set<Person> getPersonsWithNameToken(String foldedToken) {
+        requireNonNull(foldedToken);
+        return unmodifiableOrEmpty(personsByNameToken.get(foldedToken));
+    }
+
+    /**
+     * Adds {@code person} to every index.
+     */
+    void add(Person person) {
+        allPersons.add(person);
+        addTo(personsByOrgan, person.getOrgan().organName, person);
+        organNameTrigrams.add(person.getOrgan().organName);
+        organCounts.add(person);
+        if (person.getBloodType() != null) {
+            addTo(personsByBloodType, person.getBloodType().getBloodTypeEnum(), person);
+        }
+        addTo(personsByPriority, person.getPriority(), person);
+        addTo(personsByFoldedName, person.getName().getFoldedName(), person);
+        for (String token : person.getName().getFoldedTokens()) {
+            addTo(personsByNameToken, token, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from every index.
+     * {@code person} must be the instance that was added.
+     */
+    void remove(Person person) {
+        allPersons.remove(person);
+        removeFrom(personsByOrgan, person.getOrgan().organName, person);
+        if (!personsByOrgan.containsKey(person.getOrgan().organName)) {
+            organNameTrigrams.remove(person.getOrgan().organName);
+        }
+        organCounts.remove(person);
+        if (person.getBloodType() != null) {
+            removeFrom(personsByBloodType, person.getBloodType().getBloodTypeEnum(), person);
+        }
+        removeFrom(personsByPriority, person.getPriority(), person);
+        removeFrom(personsByFoldedName, person.getName().getFoldedName(), person);
+        for (String token : person.getName().getFoldedTokens()) {
+            removeFrom(personsByNameToken, token, person);
+        }
+    }
+
+    /**
+     * Removes all persons from every index.
+     */
+    void clear() {
+        allPersons.clear();
+        personsByOrgan.clear();
+        organNameTrigrams.clear();
+        organCounts.clear();
+        personsByBloodType.clear();
+        personsByPriority.clear();
+        personsByFoldedName.clear();
+        personsByNameToken.clear();
+    }
+
+    /**
+     * Returns a new set that compares persons by reference.
+     */
+    public static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static <K> void addTo(Map<K, Set<Person>> index, K key, Person person) {
+        index.computeIfAbsent(key, unused -> newPersonSet()).add(person);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> persons = index.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<Person> unmodifiableOrEmpty(Set<Person> persons) {
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  */
 public class Priority implements Comparable<Priority> {
 
+    public static final int MIN_PRIORITY = 1;
+    public static final int MAX_PRIORITY = 5;
 
     public static final String MESSAGE_CONSTRAINTS =
             "Priority should be an integer between 1 and 5, where 1 being the highest priority and 5 being the lowest";
@@ -29,7 +31,7 @@ public class Priority implements Comparable<Priority> {
      * Returns true if a given integer is a valid priority.
      */
     public static boolean isValidPriority(Integer priority) {
-        return 1 <= priority && priority <= 5;
+        return MIN_PRIORITY <= priority && priority <= MAX_PRIORITY;
     }
 
     @Override
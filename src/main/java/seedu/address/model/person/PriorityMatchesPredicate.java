@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -9,7 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
  * Tests that a {@code Person}'s {@code Priority} matches the given Priorities.
  * Returns true as long as any of the priorities match
  */
-public class PriorityMatchesPredicate implements Predicate<Person> {
+public class PriorityMatchesPredicate implements IndexedPredicate {
     private final List<Priority> priorities;
 
     public PriorityMatchesPredicate(List<Priority> priorities) {
@@ -21,6 +21,15 @@ public class PriorityMatchesPredicate implements Predicate<Person> {
         return priorities.contains(person.getPriority());
     }
 
+    @Override
+    public Set<Person> resolve(PersonIndex index) {
+        Set<Person> matches = PersonIndex.newPersonSet();
+        for (Priority priority : priorities) {
+            matches.addAll(index.getPersonsWithPriority(priority));
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of a set of strings by their trigrams (substrings of length 3), used to find the strings that contain a
+ * given substring without testing every string.
+ */
+class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Set<String> values = new HashSet<>();
+    private final Map<String, Set<String>> valuesByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code value} to the index.
+     */
+    void add(String value) {
+        if (!values.add(value)) {
+            return;
+        }
+        for (String trigram : trigramsOf(value)) {
+            valuesByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(value);
+        }
+    }
+
+    /**
+     * Removes {@code value} from the index.
+     */
+    void remove(String value) {
+        if (!values.remove(value)) {
+            return;
+        }
+        for (String trigram : trigramsOf(value)) {
+            Set<String> postings = valuesByTrigram.get(trigram);
+            postings.remove(value);
+            if (postings.isEmpty()) {
+                valuesByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    void clear() {
+        values.clear();
+        valuesByTrigram.clear();
+    }
+
+    /**
+     * Returns the indexed values that contain {@code substring}.
+     */
+    Set<String> findContaining(String substring) {
+        Set<String> matches = new HashSet<>();
+        if (substring.length() < GRAM_LENGTH) {
+            // Too short to have a trigram, but the indexed vocabulary is small enough to check directly.
+            for (String value : values) {
+                if (value.contains(substring)) {
+                    matches.add(value);
+                }
+            }
+            return matches;
+        }
+
+        Set<String> candidates = values;
+        for (String trigram : trigramsOf(substring)) {
+            Set<String> posting = valuesByTrigram.get(trigram);
+            if (posting == null) {
+                return matches;
+            }
+            if (posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        // A candidate shares the rarest trigram of the substring but may still not contain it, so confirm each one.
+        for (String candidate : candidates) {
+            if (candidate.contains(substring)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> trigramsOf(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
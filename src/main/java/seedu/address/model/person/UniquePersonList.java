@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +25,59 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their identity fields (name and phone) so that identity lookups do not need
+ * to scan the whole list, and by organ, blood type and priority in a {@link PersonIndex}.
+ *
+ * The list is kept ordered by {@link Person#compareTo(Person)}. Single-person mutations locate their position by
+ * binary search and touch only that position, so listeners receive a single add, remove or replace change instead
+ * of a permutation of the whole list.
+ *
+ * Changes made during a transaction are checked against the identity index as usual, but are only applied to the
+ * list and the {@code PersonIndex} when the transaction is committed, in a single merge that listeners receive as
+ * a single change. Until then, the list shows the persons as they were when the transaction began.
+ *
+ * Every change is also recorded as a {@link PersonChange}, so that the changes since {@link #clearChanges()} can be
+ * saved without comparing the whole list against what was saved before. Replacing the list with other persons, or
+ * making more than {@code MAX_TRACKED_CHANGES} changes, loses track of the changes until they are next cleared.
+ * They are not known before they are first cleared either, as nothing is known about what was saved before.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final int MAX_TRACKED_CHANGES = 1024;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Identity, Person> identityIndex = new HashMap<>();
+    private final PersonIndex personIndex = new PersonIndex();
+    private long version;
+
+    /** The changes made since they were last cleared, or null if they are not known. */
+    private List<PersonChange> changes;
+
+    /** The persons added and removed, and the changes made, since the transaction began, or null if there is none. */
+    private Set<Person> pendingAdditions;
+    private Set<Person> pendingRemovals;
+    private List<PersonChange> pendingChanges;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new Identity(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code person}, if there is one.
+     */
+    public Optional<Person> getSamePerson(Person person) {
+        requireNonNull(person);
+        return Optional.ofNullable(identityIndex.get(new Identity(person)));
     }
 
     /**
@@ -45,8 +89,15 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        identityIndex.put(new Identity(toAdd), toAdd);
+        if (isInTransaction()) {
+            pendingAdditions.add(toAdd);
+            pendingChanges.add(PersonChange.added(toAdd));
+            return;
+        }
+        personIndex.add(toAdd);
+        internalList.add(insertionIndexOf(toAdd), toAdd);
+        recordChange(PersonChange.added(toAdd));
     }
 
     /**
@@ -57,8 +108,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(identityIndex.get(new Identity(target)))) {
             throw new PersonNotFoundException();
         }
 
@@ -66,8 +116,24 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-        FXCollections.sort(internalList);
+        Person storedTarget = identityIndex.remove(new Identity(target));
+        identityIndex.put(new Identity(editedPerson), editedPerson);
+        if (isInTransaction()) {
+            stageRemoval(storedTarget);
+            pendingAdditions.add(editedPerson);
+            pendingChanges.add(PersonChange.edited(storedTarget, editedPerson));
+            return;
+        }
+        int index = indexOf(target);
+        personIndex.remove(storedTarget);
+        personIndex.add(editedPerson);
+        if (fitsAt(index, editedPerson)) {
+            internalList.set(index, editedPerson);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionIndexOf(editedPerson), editedPerson);
+        }
+        recordChange(PersonChange.edited(storedTarget, editedPerson));
     }
 
     /**
@@ -76,30 +142,138 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Identity identity = new Identity(toRemove);
+        if (!toRemove.equals(identityIndex.get(identity))) {
             throw new PersonNotFoundException();
         }
-        FXCollections.sort(internalList);
+        Person storedPerson = identityIndex.remove(identity);
+        if (isInTransaction()) {
+            stageRemoval(storedPerson);
+            pendingChanges.add(PersonChange.removed(storedPerson));
+            return;
+        }
+        personIndex.remove(internalList.remove(indexOf(toRemove)));
+        recordChange(PersonChange.removed(storedPerson));
+    }
+
+    /**
+     * Starts a transaction. Changes made from now on are held back until {@link #commitTransaction()}, or discarded
+     * by {@link #rollbackTransaction()}. There must not be a transaction already.
+     */
+    public void beginTransaction() {
+        assert !isInTransaction() : "Transactions cannot be nested";
+        pendingAdditions = PersonIndex.newPersonSet();
+        pendingRemovals = PersonIndex.newPersonSet();
+        pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Applies the changes made during the transaction to the list in one pass: the persons added are sorted among
+     * themselves and merged into the persons that remain.
+     */
+    public void commitTransaction() {
+        assert isInTransaction() : "There is no transaction to commit";
+        Set<Person> additions = pendingAdditions;
+        Set<Person> removals = pendingRemovals;
+        List<PersonChange> transactionChanges = pendingChanges;
+        pendingAdditions = null;
+        pendingRemovals = null;
+        pendingChanges = null;
+        if (additions.isEmpty() && removals.isEmpty()) {
+            return;
+        }
+
+        List<Person> sortedAdditions = new ArrayList<>(additions);
+        Collections.sort(sortedAdditions);
+        List<Person> merged = new ArrayList<>(internalList.size() - removals.size() + additions.size());
+        int additionIndex = 0;
+        for (Person person : internalList) {
+            if (removals.contains(person)) {
+                continue;
+            }
+            // Persons that compare equal keep the remaining one in front, as with a single add.
+            while (additionIndex < sortedAdditions.size()
+                    && sortedAdditions.get(additionIndex).compareTo(person) < 0) {
+                merged.add(sortedAdditions.get(additionIndex++));
+            }
+            merged.add(person);
+        }
+        merged.addAll(sortedAdditions.subList(additionIndex, sortedAdditions.size()));
+
+        removals.forEach(personIndex::remove);
+        additions.forEach(personIndex::add);
+        internalList.setAll(merged);
+        version++;
+        transactionChanges.forEach(this::trackChange);
+    }
+
+    /**
+     * Discards the changes made during the transaction.
+     */
+    public void rollbackTransaction() {
+        assert isInTransaction() : "There is no transaction to roll back";
+        pendingAdditions = null;
+        pendingRemovals = null;
+        pendingChanges = null;
+        identityIndex.clear();
+        for (Person person : internalList) {
+            identityIndex.put(new Identity(person), person);
+        }
+    }
+
+    /**
+     * Returns true if a transaction has begun and has not been committed or rolled back.
+     */
+    public boolean isInTransaction() {
+        return pendingAdditions != null;
+    }
+
+    /**
+     * Records that {@code storedPerson} is removed when the transaction is committed, unless it was added during the
+     * transaction, in which case it is simply not added.
+     */
+    private void stageRemoval(Person storedPerson) {
+        if (!pendingAdditions.remove(storedPerson)) {
+            pendingRemovals.add(storedPerson);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        assert !isInTransaction() : "The list cannot be replaced during a transaction";
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        personIndex.clear();
+        replacement.internalList.forEach(personIndex::add);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        version++;
+        resetChanges();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons. They are checked for duplicates in a single hashed pass,
+     * sorted once and inserted in bulk, so listeners receive a single change.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        assert !isInTransaction() : "The list cannot be replaced during a transaction";
+        Map<Identity, Person> replacementIdentityIndex = new HashMap<>();
+        for (Person person : persons) {
+            if (replacementIdentityIndex.putIfAbsent(new Identity(person), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
-        internalList.setAll(persons);
-        FXCollections.sort(internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIdentityIndex);
+        personIndex.clear();
+        persons.forEach(personIndex::add);
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        Collections.sort(sortedPersons);
+        internalList.setAll(sortedPersons);
+        version++;
+        resetChanges();
     }
 
     /**
@@ -109,6 +283,35 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the modification version of this list, which changes every time the list is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made to the list since {@link #clearChanges()} was last called, in the order they were made.
+     * Returns an empty {@code Optional} if they are not known, as is the case until it is first called.
+     */
+    public Optional<List<PersonChange>> getChanges() {
+        return Optional.ofNullable(changes).map(Collections::unmodifiableList);
+    }
+
+    /**
+     * Forgets the changes made so far, and starts tracking changes from the list as it is now.
+     */
+    public void clearChanges() {
+        changes = new ArrayList<>();
+    }
+
+    /**
+     * Returns the secondary indexes over the persons in this list.
+     */
+    public PersonIndex getPersonIndex() {
+        return personIndex;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -140,16 +343,117 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Bumps the version for a single change made outside a transaction, and tracks the change.
+     */
+    private void recordChange(PersonChange change) {
+        version++;
+        trackChange(change);
+    }
+
+    private void trackChange(PersonChange change) {
+        if (changes == null) {
+            return;
+        }
+        if (changes.size() == MAX_TRACKED_CHANGES) {
+            changes = null;
+            return;
+        }
+        changes.add(change);
+    }
+
+    /**
+     * Tracks the list having been replaced. Emptying the list is a single change that everything before it is
+     * irrelevant to, while other persons can only be tracked by listing all of them, so the changes are lost.
+     */
+    private void resetChanges() {
+        if (internalList.isEmpty()) {
+            changes = new ArrayList<>(List.of(PersonChange.cleared()));
+        } else {
+            changes = null;
+        }
+    }
+
+    /**
+     * Returns the index at which {@code person} should be inserted to keep the list sorted.
+     * Persons that compare equal to {@code person} stay in front of it.
+     */
+    private int insertionIndexOf(Person person) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of {@code person} in the list.
+     * {@code person} must exist in the list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < internalList.size() && internalList.get(i).compareTo(person) == 0; i++) {
+            if (internalList.get(i).equals(person)) {
+                return i;
             }
         }
-        return true;
+        throw new PersonNotFoundException();
+    }
+
+    /**
+     * Returns true if {@code person} can be placed at {@code index} without breaking the ordering of the list.
+     */
+    private boolean fitsAt(int index, Person person) {
+        boolean fitsAfterPrevious = index == 0 || internalList.get(index - 1).compareTo(person) <= 0;
+        boolean fitsBeforeNext = index == internalList.size() - 1 || person.compareTo(internalList.get(index + 1)) <= 0;
+        return fitsAfterPrevious && fitsBeforeNext;
+    }
+
+    /**
+     * The identity fields of a {@code Person}, as compared by {@link Person#isSamePerson(Person)}.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        Identity(Person person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name)
+                    && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
     }
 }
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * An append-only file of changes made to an address book, with one compact JSON record per line.
+ *
+ * A record only reaches the disk for certain once {@link #sync()} is called, which lets several saves share one
+ * {@code fsync}. A crash while a record is being appended can leave an incomplete last line, which is ignored when the
+ * journal is replayed and cut off when it is next opened.
+ */
+class AddressBookJournal implements Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final byte RECORD_SEPARATOR = '\n';
+
+    private final FileChannel channel;
+    private boolean hasUnsyncedRecords;
+
+    private AddressBookJournal(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the journal at {@code path} for appending, creating it if it does not exist.
+     */
+    static AddressBookJournal open(Path path) throws IOException {
+        requireNonNull(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long completeLength = getCompleteLength(channel);
+            if (completeLength < channel.size()) {
+                logger.warning("Discarding incomplete last record of journal " + path);
+                channel.truncate(completeLength);
+            }
+            channel.position(completeLength);
+        } catch (IOException ioe) {
+            channel.close();
+            throw ioe;
+        }
+        return new AddressBookJournal(channel);
+    }
+
+    /**
+     * Appends a record of each of {@code changes}, in order. Returns the number of bytes appended.
+     */
+    long append(List<PersonChange> changes) throws IOException {
+        requireNonNull(changes);
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (PersonChange change : changes) {
+            writeRecord(records, change);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        hasUnsyncedRecords = true;
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the size of the journal in bytes.
+     */
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Forces the records appended since the last call to the disk.
+     */
+    void sync() throws IOException {
+        if (hasUnsyncedRecords) {
+            channel.force(false);
+            hasUnsyncedRecords = false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code path} to {@code addressBook}, in the order they were appended.
+     * Does nothing if there is no journal at {@code path}.
+     *
+     * @throws IOException if the journal could not be read or a record is not in the expected JSON format.
+     * @throws IllegalValueException if a record violates the data constraints.
+     */
+    static void replay(Path path, AddressBook addressBook) throws IOException, IllegalValueException {
+        requireNonNull(path);
+        requireNonNull(addressBook);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        long completeLength;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            completeLength = getCompleteLength(channel);
+        }
+        long bytesRead = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                bytesRead += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (bytesRead > completeLength) {
+                    logger.warning("Ignoring incomplete last record of journal " + path);
+                    break;
+                }
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(addressBook);
+            }
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream records, PersonChange change) throws IOException {
+        switch (change.getType()) {
+        case ADD:
+            writeRecord(records, JsonAdaptedJournalRecord.OPERATION_ADD, null, change.getPerson());
+            break;
+        case EDIT:
+            writeRecord(records, JsonAdaptedJournalRecord.OPERATION_EDIT, change.getTarget(), change.getPerson());
+            break;
+        case REMOVE:
+            writeRecord(records, JsonAdaptedJournalRecord.OPERATION_REMOVE, null, change.getTarget());
+            break;
+        case CLEAR:
+            writeRecord(records, JsonAdaptedJournalRecord.OPERATION_CLEAR, null, null);
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + change.getType());
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream records, String operation, Person target, Person person)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(records, true)) {
+            generator.writeStartObject();
+            generator.writeStringField(JsonAdaptedJournalRecord.OPERATION_FIELD, operation);
+            if (target != null) {
+                generator.writeFieldName(JsonAdaptedJournalRecord.TARGET_FIELD);
+                JsonAddressBookWriter.writePerson(generator, target);
+            }
+            if (person != null) {
+                generator.writeFieldName(JsonAdaptedJournalRecord.PERSON_FIELD);
+                JsonAddressBookWriter.writePerson(generator, person);
+            }
+            generator.writeEndObject();
+        }
+        records.write(RECORD_SEPARATOR);
+    }
+
+    /**
+     * Returns the length of the part of the file behind {@code channel} that ends with a complete record.
+     */
+    private static long getCompleteLength(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        long end = channel.size();
+        while (end > 0) {
+            long start = Math.max(0, end - buffer.capacity());
+            buffer.clear();
+            buffer.limit((int) (end - start));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == RECORD_SEPARATOR) {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Builds an {@code AddressBook} from stored person records.
+ *
+ * The records are validated and converted into persons in parallel on the common fork-join pool, so loading scales
+ * with the number of cores. The persons are then checked for duplicates in a single hashed pass, sorted once and
+ * inserted in bulk. Errors are reported as a sequential load would: the first bad record in file order wins, whether
+ * it is invalid or a duplicate of an earlier record.
+ *
+ * Records that are read one at a time can be given to a {@link ChunkedLoader} instead, which converts them a chunk
+ * at a time as they are read, so that only one chunk of records is held at once rather than every record.
+ */
+class AddressBookLoader {
+
+    /** The record count below which records are converted on the calling thread, as splitting would cost more. */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /** The number of records a {@link ChunkedLoader} holds before converting them, enough to split them 4 ways. */
+    static final int CHUNK_SIZE = PARALLEL_THRESHOLD * 4;
+
+    /**
+     * Converts one stored record into a {@code Person}.
+     */
+    @FunctionalInterface
+    interface RecordConverter<T> {
+        Person toPerson(T record) throws IllegalValueException;
+    }
+
+    /**
+     * Returns an address book of the persons converted from {@code records} by {@code converter}.
+     * {@code converter} may be called from several threads at once.
+     *
+     * @throws IllegalValueException if a record violates the data constraints or duplicates an earlier record.
+     */
+    static <T> AddressBook load(List<T> records, RecordConverter<? super T> converter) throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(converter);
+        int recordCount = records.size();
+        Person[] persons = new Person[recordCount];
+        IllegalValueException[] failures = new IllegalValueException[recordCount];
+        AtomicInteger firstFailureIndex = new AtomicInteger(recordCount);
+
+        IntStream indexes = IntStream.range(0, recordCount);
+        if (recordCount >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            // Records after a known failure cannot be the first bad record, so there is no need to convert them.
+            if (i > firstFailureIndex.get()) {
+                return;
+            }
+            try {
+                persons[i] = converter.toPerson(records.get(i));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+                firstFailureIndex.accumulateAndGet(i, Math::min);
+            }
+        });
+
+        int failureIndex = firstFailureIndex.get();
+        AddressBook addressBook = toAddressBook(Arrays.asList(persons).subList(0, failureIndex));
+        if (failureIndex < recordCount) {
+            throw failures[failureIndex];
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns an address book of {@code persons}.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Builds an address book from records that are added one at a time, as they are read.
+     * The records are converted a chunk of {@code CHUNK_SIZE} at a time, in parallel as in
+     * {@link AddressBookLoader#load(List, RecordConverter)}, and only the persons converted from them are kept.
+     * Records that violate the data constraints or duplicate an earlier record are rejected in the order they were
+     * added, and are the only records kept once their chunk is converted.
+     */
+    static class ChunkedLoader<T> {
+        private final RecordConverter<? super T> converter;
+        private final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        /** The identity fields compared by Person#isSamePerson, so that later duplicates are rejected in order. */
+        private final Set<List<Object>> identities = new HashSet<>();
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Rejection<T>> rejections = new ArrayList<>();
+        private int convertedCount;
+
+        /**
+         * Creates a {@code ChunkedLoader} that converts records with {@code converter}, which may be called from
+         * several threads at once.
+         */
+        ChunkedLoader(RecordConverter<? super T> converter) {
+            requireNonNull(converter);
+            this.converter = converter;
+        }
+
+        /**
+         * Adds the next record, converting the current chunk if it is full.
+         */
+        void add(T record) {
+            requireNonNull(record);
+            chunk.add(record);
+            if (chunk.size() == CHUNK_SIZE) {
+                convertChunk();
+            }
+        }
+
+        /**
+         * Converts the records added since the last full chunk, and returns an address book of every valid person.
+         */
+        AddressBook finish() {
+            convertChunk();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        }
+
+        /**
+         * Returns the records rejected so far, in the order they were added.
+         */
+        List<Rejection<T>> getRejections() {
+            return Collections.unmodifiableList(rejections);
+        }
+
+        private void convertChunk() {
+            int chunkSize = chunk.size();
+            Person[] converted = new Person[chunkSize];
+            String[] failures = new String[chunkSize];
+            IntStream indexes = IntStream.range(0, chunkSize);
+            if (chunkSize >= PARALLEL_THRESHOLD) {
+                indexes = indexes.parallel();
+            }
+            indexes.forEach(i -> {
+                try {
+                    converted[i] = converter.toPerson(chunk.get(i));
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive.getMessage();
+                }
+            });
+
+            for (int i = 0; i < chunkSize; i++) {
+                if (failures[i] != null) {
+                    rejections.add(new Rejection<>(convertedCount + i, chunk.get(i), failures[i]));
+                } else if (!identities.add(List.of(converted[i].getName(), converted[i].getPhone()))) {
+                    rejections.add(new Rejection<>(convertedCount + i, chunk.get(i),
+                            JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+                } else {
+                    persons.add(converted[i]);
+                }
+            }
+            convertedCount += chunkSize;
+            chunk.clear();
+        }
+    }
+
+    /**
+     * A record that was rejected, and why.
+     */
+    static class Rejection<T> {
+        private final int index;
+        private final T record;
+        private final String message;
+
+        Rejection(int index, T record, String message) {
+            this.index = index;
+            this.record = record;
+            this.message = message;
+        }
+
+        /**
+         * Returns the position of the record among all the records, counting from 0.
+         */
+        int getIndex() {
+            return index;
+        }
+
+        T getRecord() {
+            return record;
+        }
+
+        String getMessage() {
+            return message;
+        }
+    }
+}
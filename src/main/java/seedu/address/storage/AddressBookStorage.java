@@ -30,6 +30,36 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns only the first {@code personCount} persons of the AddressBook data, if this storage can read them
+     * much faster than the whole data, so that they can be shown while the rest is read.
+     * Returns {@code Optional.empty()} otherwise, or if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBookPreview(int personCount) throws DataLoadingException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the previous version of the data file that the last {@link #readAddressBook()} loaded because the data
+     * file itself could not be loaded, or {@code Optional.empty()} if it did not load a previous version.
+     */
+    default Optional<Path> getRecoveredBackupPath() {
+        return Optional.empty();
+    }
+
+    /**
+     * Loads every valid person from AddressBook data that {@link #readAddressBook()} could not load, setting the
+     * invalid records aside for the user to fix.
+     * Returns {@code Optional.empty()} if this storage cannot salvage its data, or if storage file is not found.
+     *
+     * @throws DataLoadingException if the data could not be read at all.
+     */
+    default Optional<SalvageResult> salvageAddressBook() throws DataLoadingException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +72,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the number of bytes this storage has written to files since it was created.
+     */
+    default long getBytesWritten() {
+        return 0;
+    }
+
+    /**
+     * Finishes any writes still in progress and releases the resources held by this storage.
+     * The storage must not be used after it is closed.
+     * @throws IOException if there was any problem finishing the writes.
+     */
+    default void close() throws IOException {}
+
 }
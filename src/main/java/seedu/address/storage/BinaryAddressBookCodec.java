@@ -0,0 +1,357 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmergencyContact;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Organ;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Priority;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes address books in a compact binary format, and decodes them back.
+ *
+ * The format starts with a fixed-size header: the 4 magic bytes {@code ORGZ}, a 2-byte schema version, a 4-byte
+ * record count and a 4-byte CRC32 checksum of everything after the header. Next comes a dictionary of the distinct
+ * organ names, tag names and blood types, followed by one record per person. Strings are stored as a varint byte
+ * length followed by UTF-8 bytes, and organs, tags and blood types as varint indexes into the dictionary, so that each
+ * distinct value is validated and constructed only once when decoding.
+ */
+class BinaryAddressBookCodec {
+
+    public static final String MESSAGE_NOT_BINARY = "Data is not in the binary address book format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book schema version: %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book checksum does not match its data.";
+    public static final String MESSAGE_TRUNCATED = "Binary address book data ends unexpectedly.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book data is corrupted.";
+    public static final String MESSAGE_INVALID_INDEX = "Binary address book refers to unknown dictionary entry %d.";
+
+    static final byte[] MAGIC = {'O', 'R', 'G', 'Z'};
+    static final short SCHEMA_VERSION = 1;
+    static final int HEADER_LENGTH = MAGIC.length + Short.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private static final int NO_BLOOD_TYPE = 0;
+    private static final byte NO_EMERGENCY_CONTACT = 0;
+    private static final byte HAS_EMERGENCY_CONTACT = 1;
+
+    /**
+     * Returns true if the first {@code length} bytes of {@code prefix}, which are the first bytes of some data, start
+     * with the magic bytes of this format.
+     */
+    static boolean hasMagic(byte[] prefix, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (prefix[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        List<Person> persons = addressBook.getPersonList();
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            dictionary.putIfAbsent(person.getOrgan().organName, dictionary.size());
+            if (person.getBloodType() != null) {
+                dictionary.putIfAbsent(person.getBloodType().bloodType, dictionary.size());
+            }
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeVarint(body, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(body, entry);
+        }
+        for (Person person : persons) {
+            writePerson(body, person, dictionary);
+        }
+        byte[] bodyBytes = body.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(bodyBytes, 0, bodyBytes.length);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.put(MAGIC);
+        header.putShort(SCHEMA_VERSION);
+        header.putInt(persons.size());
+        header.putInt((int) checksum.getValue());
+        out.write(header.array());
+        out.write(bodyBytes);
+    }
+
+    /**
+     * Reads an address book in the binary format from the remaining bytes of {@code buffer}.
+     *
+     * @throws IllegalValueException if the data is not in the binary format, is corrupted, or describes persons that
+     *     violate the data constraints.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        requireNonNull(buffer);
+        try {
+            int recordCount = readHeader(buffer, true);
+            PersonDecoder decoder = new PersonDecoder(buffer);
+            List<Person> persons = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                persons.add(decoder.next());
+            }
+            return AddressBookLoader.toAddressBook(persons);
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+    }
+
+    /**
+     * Checks the header at the position of {@code buffer}, and leaves {@code buffer} positioned at the dictionary.
+     * Verifying the checksum reads all of the data, so it can be skipped when only the first few records are needed,
+     * in which case {@code buffer} may hold only the start of the data and the record count is not checked against it.
+     *
+     * @param isChecksumVerified true if the checksum of the data after the header should be verified.
+     * @return the number of person records.
+     */
+    static int readHeader(ByteBuffer buffer, boolean isChecksumVerified) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_LENGTH) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        short version = buffer.getShort();
+        if (version != SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int recordCount = buffer.getInt();
+        int expectedChecksum = buffer.getInt();
+
+        if (isChecksumVerified) {
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate());
+            if ((int) checksum.getValue() != expectedChecksum) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+        }
+        if (recordCount < 0 || (isChecksumVerified && recordCount > buffer.remaining())) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return recordCount;
+    }
+
+    private static void writePerson(OutputStream out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeVarint(out, dictionary.get(person.getOrgan().organName));
+        writeVarint(out, person.getBloodType() == null
+                ? NO_BLOOD_TYPE
+                : dictionary.get(person.getBloodType().bloodType) + 1);
+        out.write(person.getPriority().priority);
+        writeVarint(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarint(out, dictionary.get(tag.tagName));
+        }
+        EmergencyContact emergencyContact = person.getEmergencyContact();
+        if (emergencyContact == null) {
+            out.write(NO_EMERGENCY_CONTACT);
+        } else {
+            out.write(HAS_EMERGENCY_CONTACT);
+            writeString(out, emergencyContact.getName().fullName);
+            writeString(out, emergencyContact.getPhone().value);
+            writeString(out, emergencyContact.getRelationship());
+        }
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, in 7-bit groups, least significant first, with the high bit
+     * of each byte set if more groups follow.
+     */
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        assert value >= 0 : "Varints are only used for non-negative values";
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            out.write((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Reads person records one at a time from a buffer positioned at the dictionary, constructing each distinct
+     * organ, tag and blood type only once.
+     * Reading past the end of the buffer throws a {@code BufferUnderflowException}, so that a caller holding only the
+     * start of the data can tell that it needs more of it.
+     */
+    static class PersonDecoder {
+
+        private final ByteBuffer buffer;
+        private final String[] dictionary;
+        private final Organ[] organs;
+        private final BloodType[] bloodTypes;
+        private final Tag[] tags;
+        private byte[] scratch = new byte[64];
+
+        PersonDecoder(ByteBuffer buffer) throws IllegalValueException {
+            this.buffer = buffer;
+            int dictionarySize = readVarint();
+            if (dictionarySize > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            dictionary = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary[i] = readString();
+            }
+            organs = new Organ[dictionarySize];
+            bloodTypes = new BloodType[dictionarySize];
+            tags = new Tag[dictionarySize];
+        }
+
+        /**
+         * Reads the next person record.
+         *
+         * @throws IllegalValueException if the record violates the data constraints.
+         */
+        Person next() throws IllegalValueException {
+            try {
+                Name name = new Name(readString());
+                Phone phone = new Phone(readString());
+                Email email = new Email(readString());
+                Address address = new Address(readString());
+                Organ organ = readOrgan();
+                BloodType bloodType = readBloodType();
+                int priorityValue = buffer.get();
+                if (!Priority.isValidPriority(priorityValue)) {
+                    throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
+                }
+                Priority priority = new Priority(priorityValue);
+                int tagCount = readVarint();
+                Set<Tag> personTags = new HashSet<>();
+                for (int i = 0; i < tagCount; i++) {
+                    personTags.add(readTag());
+                }
+                EmergencyContact emergencyContact = null;
+                if (buffer.get() == HAS_EMERGENCY_CONTACT) {
+                    emergencyContact = new EmergencyContact(new Name(readString()), new Phone(readString()),
+                            readString());
+                }
+                return new Person(name, phone, email, address, organ, bloodType, priority, personTags,
+                        emergencyContact);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+        }
+
+        private Organ readOrgan() throws IllegalValueException {
+            int index = readIndex();
+            if (organs[index] == null) {
+                organs[index] = new Organ(dictionary[index]);
+            }
+            return organs[index];
+        }
+
+        private BloodType readBloodType() throws IllegalValueException {
+            int value = readVarint();
+            if (value == NO_BLOOD_TYPE) {
+                return null;
+            }
+            int index = checkIndex(value - 1);
+            if (bloodTypes[index] == null) {
+                bloodTypes[index] = new BloodType(dictionary[index]);
+            }
+            return bloodTypes[index];
+        }
+
+        private Tag readTag() throws IllegalValueException {
+            int index = readIndex();
+            if (tags[index] == null) {
+                tags[index] = new Tag(dictionary[index]);
+            }
+            return tags[index];
+        }
+
+        private int readIndex() throws IllegalValueException {
+            return checkIndex(readVarint());
+        }
+
+        private int checkIndex(int index) throws IllegalValueException {
+            if (index < 0 || index >= dictionary.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, index));
+            }
+            return index;
+        }
+
+        private String readString() throws IllegalValueException {
+            int length = readVarint();
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.hasArray()) {
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private int readVarint() throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED);
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads the first persons of address books in the binary format of {@link BinaryAddressBookCodec} without reading the
+ * rest of the file, which lets the first few persons of a large file be read almost immediately.
+ *
+ * Only the start of the file is read onto the heap, with more of it read in as the persons need it. The file is not
+ * mapped into memory, as a mapping is only released once it is garbage collected, which on Windows keeps the file
+ * from being replaced or deleted until then.
+ */
+class BinaryAddressBookPreviewReader {
+
+    /** The number of bytes read at first, which holds the first persons of most address books. */
+    static final int INITIAL_READ_LENGTH = 16 * 1024;
+
+    /**
+     * Reads only the first {@code personCount} persons of the address book in the file at {@code filePath}.
+     * The checksum is not verified, as that would read the whole file; the file should be read in full later on.
+     *
+     * @throws IllegalValueException if the file is not in the binary format, or the persons read are corrupted or
+     *     violate the data constraints.
+     */
+    static AddressBook readFirst(Path filePath, int personCount) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        checkArgument(personCount >= 0, "Person count must not be negative");
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(BinaryAddressBookCodec.MESSAGE_CORRUPTED);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, INITIAL_READ_LENGTH));
+            while (true) {
+                readFully(channel, buffer);
+                try {
+                    return decodeFirst(buffer.duplicate().flip(), personCount);
+                } catch (BufferUnderflowException bue) {
+                    if (buffer.capacity() == size) {
+                        throw new IllegalValueException(BinaryAddressBookCodec.MESSAGE_TRUNCATED);
+                    }
+                }
+                // The persons run past the bytes read so far, so read twice as many and decode them again.
+                ByteBuffer grownBuffer = ByteBuffer.allocate((int) Math.min(size, buffer.capacity() * 2L));
+                grownBuffer.put(buffer.flip());
+                buffer = grownBuffer;
+            }
+        }
+    }
+
+    /**
+     * Decodes the first {@code personCount} persons from the remaining bytes of {@code buffer}.
+     *
+     * @throws BufferUnderflowException if the persons run past the end of {@code buffer}.
+     */
+    private static AddressBook decodeFirst(ByteBuffer buffer, int personCount) throws IllegalValueException {
+        int recordCount = BinaryAddressBookCodec.readHeader(buffer, false);
+        BinaryAddressBookCodec.PersonDecoder decoder = new BinaryAddressBookCodec.PersonDecoder(buffer);
+        int count = Math.min(recordCount, personCount);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(decoder.next());
+        }
+        return AddressBookLoader.toAddressBook(persons);
+    }
+
+    /**
+     * Fills the remaining space of {@code buffer} with the bytes of {@code channel} at the same positions in the file,
+     * stopping early only at the end of the file.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+    }
+}
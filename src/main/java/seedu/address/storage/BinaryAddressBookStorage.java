@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookCodec} on the
+ * hard disk.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param backupCount the number of previous versions of the file to keep, which are read in turn if the file
+     *     itself is missing or cannot be read.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        super(filePath, backupCount);
+    }
+
+    @Override
+    protected void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinaryAddressBookCodec.encode(addressBook, out);
+    }
+
+}
@@ -0,0 +1,267 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a file on the hard disk.
+ * Files in either the JSON or the binary format can be read, whichever format the subclass writes, so changing the
+ * format of a data file only takes one save.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    public static final String QUARANTINE_FILE_SUFFIX = ".quarantine.json";
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+    private final int backupCount;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /** What the last read of this storage's file could load of it, if it could not load all of it, or null. */
+    private volatile JsonAddressBookReader.SalvagedAddressBook lastSalvaged;
+    /** The previous version of this storage's file that the last read of it loaded instead, or null. */
+    private volatile Path lastRecoveredBackupPath;
+
+    /**
+     * Creates a {@code FileAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param backupCount the number of previous versions of the file to keep, which are read in turn if the file
+     *     itself is missing or cannot be read.
+     */
+    protected FileAddressBookStorage(Path filePath, int backupCount) {
+        checkArgument(backupCount >= 0, "Backup count must not be negative");
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file is missing or cannot be read, its kept previous versions are read instead, most recent first.
+     * They are not read if the file was parsed in full and only some of its records are invalid, as salvaging the
+     * file then loses only those records, where a previous version would lose every change made since.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from the file failed and no previous version could be loaded.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            lastRecoveredBackupPath = null;
+        }
+
+        DataLoadingException loadingException = null;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readFile(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+        } catch (DataLoadingException dle) {
+            JsonAddressBookReader.SalvagedAddressBook salvaged = lastSalvaged;
+            if (salvaged != null && salvaged.isParsedInFull()) {
+                throw dle;
+            }
+            loadingException = dle;
+        }
+
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupPath = FileUtil.getBackupPath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = readFile(backupPath);
+                if (addressBook.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be loaded. Recovered the previous version "
+                            + backupPath + " instead.");
+                    if (isOwnFile) {
+                        lastRecoveredBackupPath = backupPath;
+                    }
+                    return addressBook;
+                }
+            } catch (DataLoadingException dle) {
+                logger.warning("Previous version " + backupPath + " could not be loaded either.");
+            }
+        }
+
+        if (loadingException != null) {
+            throw loadingException;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        return Optional.ofNullable(lastRecoveredBackupPath);
+    }
+
+    /**
+     * Reads the file at {@code filePath}. If it is this storage's file and is in the JSON format, the persons that
+     * could be loaded from it are kept for {@link #salvageAddressBook()} when it cannot be loaded in full.
+     */
+    private Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            lastSalvaged = null;
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try {
+            if (isBinaryFile(filePath)) {
+                return Optional.of(BinaryAddressBookCodec.decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+            }
+            JsonAddressBookReader.SalvagedAddressBook result;
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+                result = JsonAddressBookReader.salvage(in);
+            }
+            if (isOwnFile && !result.getQuarantinedRecords().isEmpty()) {
+                lastSalvaged = result;
+            }
+            result.requireComplete();
+            return Optional.of(result.getAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads only the first {@code personCount} persons of the file if it is in the binary format, which can be done
+     * without reading the rest of the file. The checksum of the file is not verified.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookPreview(int personCount) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                return Optional.empty();
+            }
+            return Optional.of(BinaryAddressBookPreviewReader.readFirst(filePath, personCount));
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Could not read the first persons of " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns every valid person in the file, and writes the records that could not be read to the file at
+     * {@link #getQuarantineFilePath(Path)} with their line and column in the file.
+     * The persons found by the last {@link #readAddressBook()} are used if it could not load the file in full, so the
+     * file is not parsed a second time. Otherwise the file is read in a single pass.
+     * Only files in the JSON format can be salvaged.
+     */
+    @Override
+    public Optional<SalvageResult> salvageAddressBook() throws DataLoadingException {
+        JsonAddressBookReader.SalvagedAddressBook salvaged = lastSalvaged;
+        lastSalvaged = null;
+        if (salvaged == null && !Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (salvaged == null) {
+                if (isBinaryFile(filePath)) {
+                    return Optional.empty();
+                }
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+                    salvaged = JsonAddressBookReader.salvage(in);
+                }
+            }
+            List<QuarantinedRecord> quarantinedRecords = salvaged.getQuarantinedRecords();
+            Path quarantineFilePath = null;
+            if (!quarantinedRecords.isEmpty()) {
+                quarantineFilePath = getQuarantineFilePath(filePath);
+                FileUtil.writeAtomically(quarantineFilePath, 0, out ->
+                        QuarantinedRecord.writeAll(quarantinedRecords, filePath.toString(), out));
+            }
+            logger.warning("Salvaged " + salvaged.getAddressBook().getPersonList().size() + " persons from "
+                    + filePath + ", quarantined " + quarantinedRecords.size() + " records");
+            return Optional.of(new SalvageResult(salvaged.getAddressBook(), quarantinedRecords.size(),
+                    quarantineFilePath));
+        } catch (IOException ioe) {
+            logger.warning("Error salvaging data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Returns the path that the records of the data file at {@code filePath} that could not be loaded are written to.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
+    private static boolean isBinaryFile(Path filePath) throws IOException {
+        byte[] prefix = new byte[BinaryAddressBookCodec.MAGIC.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinaryAddressBookCodec.hasMagic(prefix, in.readNBytes(prefix, 0, prefix.length));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a crash while saving leaves either the old or the new data in it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            lastSalvaged = null;
+        }
+        FileUtil.writeAtomically(filePath, backupCount, out -> write(addressBook, out));
+        bytesWritten.addAndGet(Files.size(filePath));
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of this storage, without closing {@code out}.
+     */
+    protected abstract void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,329 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book as a snapshot, written by a {@link FileAddressBookStorage},
+ * followed by an {@link AddressBookJournal} of the changes made since the snapshot was written.
+ *
+ * Saving appends a record of each change the address book reports since it was last saved, so neither its I/O nor
+ * its work grows with the size of the address book. A full snapshot is written instead when the address book does
+ * not know its changes. Appended records are forced to the disk together once every sync interval. When the
+ * journal grows past the compaction threshold, it is folded into a fresh snapshot on a background thread, while later
+ * changes go to a new journal.
+ *
+ * Syncing runs on a thread of its own rather than the compaction thread, as it needs the lock on this storage, which
+ * is held while waiting for a compaction to finish.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final FileAddressBookStorage snapshotStorage;
+    private final boolean isSyncedOnSave;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor;
+    private final ScheduledExecutorService syncer;
+
+    private AddressBookJournal journal;
+    /** Whether the snapshot and journals hold the address book as it was last read or saved. */
+    private boolean isJournalInSync;
+    private Future<?> compaction;
+    private volatile boolean isSnapshotStale;
+    private volatile long journalBytesWritten;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage}.
+     *
+     * @param syncIntervalMillis how often appended records are forced to the disk, or 0 to force them on every save.
+     * @param compactionThresholdBytes the journal size at which it is folded into a fresh snapshot.
+     */
+    public JournaledAddressBookStorage(FileAddressBookStorage snapshotStorage, long syncIntervalMillis,
+            long compactionThresholdBytes) {
+        requireNonNull(snapshotStorage);
+        checkArgument(syncIntervalMillis >= 0, "Sync interval must not be negative");
+        checkArgument(compactionThresholdBytes > 0, "Compaction threshold must be positive");
+        this.snapshotStorage = snapshotStorage;
+        this.isSyncedOnSave = syncIntervalMillis == 0;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> newDaemonThread(runnable, "journal-compactor"));
+        if (syncIntervalMillis > 0) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> newDaemonThread(runnable, "journal-syncer"));
+            syncer.scheduleWithFixedDelay(this::syncJournal, syncIntervalMillis, syncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journals next to it.
+     * Returns {@code Optional.empty()} if there is neither a snapshot nor a journal.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (!snapshot.isPresent() && !Files.exists(compactingJournalPath) && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.orElseGet(AddressBook::new));
+        replayJournals(filePath, addressBook);
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            isJournalInSync = true;
+            // A journal left over from an unfinished compaction must be folded in before a new one can start.
+            isSnapshotStale = Files.exists(compactingJournalPath);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        return snapshotStorage.getRecoveredBackupPath();
+    }
+
+    /**
+     * Salvages the snapshot and replays the journals over the persons salvaged. The next save writes a full snapshot,
+     * as the damaged snapshot cannot be appended to.
+     */
+    @Override
+    public synchronized Optional<SalvageResult> salvageAddressBook() throws DataLoadingException {
+        awaitCompaction();
+        Optional<SalvageResult> salvaged = snapshotStorage.salvageAddressBook();
+        if (!salvaged.isPresent()) {
+            return salvaged;
+        }
+
+        AddressBook addressBook = new AddressBook(salvaged.get().getAddressBook());
+        replayJournals(getAddressBookFilePath(), addressBook);
+        isJournalInSync = false;
+        return Optional.of(new SalvageResult(addressBook, salvaged.get().getQuarantinedCount(),
+                salvaged.get().getQuarantineFilePath().orElse(null)));
+    }
+
+    /**
+     * Reads the first persons of the snapshot, unless there is a journal to replay over it.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBookPreview(int personCount)
+            throws DataLoadingException {
+        Path filePath = getAddressBookFilePath();
+        if (Files.exists(getCompactingJournalPath(filePath)) || Files.exists(getJournalPath(filePath))) {
+            return Optional.empty();
+        }
+        return snapshotStorage.readAddressBookPreview(personCount);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes that {@code addressBook} reports since it was last saved to the journal. A full snapshot is
+     * written instead if the changes are not known, if this storage does not know what the journal already holds, or
+     * if {@code filePath} is not this storage's file.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        Optional<List<PersonChange>> changes = addressBook.getChangesSinceLastSave();
+        if (!isJournalInSync || isSnapshotStale || !changes.isPresent()) {
+            writeSnapshot(addressBook);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        if (journal == null) {
+            journal = AddressBookJournal.open(getJournalPath(filePath));
+        }
+        // Until the records are all appended, the journal may hold only some of them.
+        isJournalInSync = false;
+        journalBytesWritten += journal.append(changes.get());
+        if (isSyncedOnSave) {
+            journal.sync();
+        }
+        isJournalInSync = true;
+
+        if (journal.size() >= compactionThresholdBytes && (compaction == null || compaction.isDone())) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Returns the bytes appended to journals, plus the bytes of the snapshots written, including those written by
+     * compaction.
+     */
+    @Override
+    public long getBytesWritten() {
+        return journalBytesWritten + snapshotStorage.getBytesWritten();
+    }
+
+    /**
+     * Waits for any compaction in progress, forces the journal to the disk and stops the background threads.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (syncer != null) {
+            syncer.shutdown();
+        }
+        awaitCompaction();
+        compactor.shutdown();
+        closeJournal();
+    }
+
+    /**
+     * Writes all of {@code addressBook} as the snapshot and deletes the journals, which it supersedes.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        isJournalInSync = false;
+        Path filePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        closeJournal();
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+        isJournalInSync = true;
+        isSnapshotStale = false;
+    }
+
+    /**
+     * Moves the journal aside and writes a snapshot of a copy of {@code addressBook} on the background thread.
+     * The moved journal is deleted once the snapshot is written. If writing the snapshot fails, the next save writes
+     * a full snapshot instead.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        closeJournal();
+        Files.move(getJournalPath(filePath), compactingJournalPath, StandardCopyOption.REPLACE_EXISTING);
+
+        compaction = compactor.submit(() -> {
+            try {
+                snapshotStorage.saveAddressBook(snapshot, filePath);
+                Files.deleteIfExists(compactingJournalPath);
+                logger.fine("Compacted journal of " + filePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(ioe));
+                isSnapshotStale = true;
+            }
+        });
+    }
+
+    private static void replayJournals(Path filePath, AddressBook addressBook) throws DataLoadingException {
+        try {
+            AddressBookJournal.replay(getCompactingJournalPath(filePath), addressBook);
+            AddressBookJournal.replay(getJournalPath(filePath), addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Journal compaction failed: " + ee.getCause());
+            isSnapshotStale = true;
+        }
+        compaction = null;
+    }
+
+    private synchronized void syncJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.sync();
+        } catch (IOException ioe) {
+            logger.warning("Failed to sync journal: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            AddressBookJournal toClose = journal;
+            journal = null;
+            toClose.close();
+        }
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path that the journal of the snapshot at {@code filePath} is moved to while it is being compacted.
+     */
+    public static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_FILE_SUFFIX);
+    }
+}
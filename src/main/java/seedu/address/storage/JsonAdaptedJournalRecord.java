@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in an {@link AddressBookJournal}.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_EDIT = "edit";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String OPERATION_CLEAR = "clear";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has unknown operation: %s";
+
+    // Field names in the journal, shared with AddressBookJournal so that it writes what is read here.
+    static final String OPERATION_FIELD = "op";
+    static final String TARGET_FIELD = "target";
+    static final String PERSON_FIELD = "person";
+
+    private final String op;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty(OPERATION_FIELD) String op,
+            @JsonProperty(TARGET_FIELD) JsonAdaptedPerson target,
+            @JsonProperty(PERSON_FIELD) JsonAdaptedPerson person) {
+        this.op = op;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Applies the recorded change to {@code addressBook}.
+     * Applying a record that is already reflected in {@code addressBook} leaves it unchanged, so the records of a
+     * journal can safely be replayed over a snapshot that was written after some of them: an added person replaces
+     * any person with the same identity, a removed person that is not in the address book is ignored, and an edit is
+     * applied as the removal of the person before it followed by the addition of the person after it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, OPERATION_FIELD));
+        }
+
+        switch (op) {
+        case OPERATION_CLEAR:
+            addressBook.resetData(new AddressBook());
+            break;
+        case OPERATION_ADD:
+            addOrReplace(addressBook, toModelPerson(person, PERSON_FIELD));
+            break;
+        case OPERATION_EDIT:
+            Person editedPerson = toModelPerson(person, PERSON_FIELD);
+            removeIfPresent(addressBook, toModelPerson(target, TARGET_FIELD));
+            addOrReplace(addressBook, editedPerson);
+            break;
+        case OPERATION_REMOVE:
+            removeIfPresent(addressBook, toModelPerson(person, PERSON_FIELD));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private static void addOrReplace(AddressBook addressBook, Person toAdd) {
+        if (addressBook.getSamePerson(toAdd).isPresent()) {
+            addressBook.setPerson(addressBook.getSamePerson(toAdd).get(), toAdd);
+        } else {
+            addressBook.addPerson(toAdd);
+        }
+    }
+
+    private static void removeIfPresent(AddressBook addressBook, Person toRemove) {
+        if (addressBook.getSamePerson(toRemove).filter(toRemove::equals).isPresent()) {
+            addressBook.removePerson(toRemove);
+        }
+    }
+
+    private static Person toModelPerson(JsonAdaptedPerson person, String fieldName) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return person.toModelType();
+    }
+}
@@ -28,6 +28,19 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    // Field names in the saved JSON, shared with JsonAddressBookWriter so that it writes what is read here.
+    static final String NAME_FIELD = "name";
+    static final String PHONE_FIELD = "phone";
+    static final String EMAIL_FIELD = "email";
+    static final String ADDRESS_FIELD = "address";
+    static final String ORGAN_FIELD = "organ";
+    static final String BLOOD_TYPE_FIELD = "blood type";
+    static final String PRIORITY_FIELD = "priority";
+    static final String TAGS_FIELD = "tags";
+    static final String EMERGENCY_CONTACT_NAME_FIELD = "emergencyContactName";
+    static final String EMERGENCY_CONTACT_PHONE_FIELD = "emergencyContactPhone";
+    static final String EMERGENCY_CONTACT_RELATIONSHIP_FIELD = "emergencyContactRelationship";
+
     private final String name;
     private final String phone;
     private final String email;
@@ -44,13 +57,13 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("organ") String organ, @JsonProperty("blood type") String bloodType,
-            @JsonProperty("priority") Integer priority, @JsonProperty("tags") List<JsonAdaptedTag> tags,
-            @JsonProperty("emergencyContactName") String emergencyContactName,
-            @JsonProperty("emergencyContactPhone") String emergencyContactPhone,
-            @JsonProperty("emergencyContactRelationship") String emergencyContactRelationship) {
+    public JsonAdaptedPerson(@JsonProperty(NAME_FIELD) String name, @JsonProperty(PHONE_FIELD) String phone,
+            @JsonProperty(EMAIL_FIELD) String email, @JsonProperty(ADDRESS_FIELD) String address,
+            @JsonProperty(ORGAN_FIELD) String organ, @JsonProperty(BLOOD_TYPE_FIELD) String bloodType,
+            @JsonProperty(PRIORITY_FIELD) Integer priority, @JsonProperty(TAGS_FIELD) List<JsonAdaptedTag> tags,
+            @JsonProperty(EMERGENCY_CONTACT_NAME_FIELD) String emergencyContactName,
+            @JsonProperty(EMERGENCY_CONTACT_PHONE_FIELD) String emergencyContactPhone,
+            @JsonProperty(EMERGENCY_CONTACT_RELATIONSHIP_FIELD) String emergencyContactRelationship) {
         this.name = name;
         this.phone = phone;
         this.email = email;
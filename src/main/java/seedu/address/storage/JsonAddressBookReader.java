@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonSerializableAddressBook.PERSONS_FIELD;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book saved in the format of {@link JsonSerializableAddressBook} with a streaming parser, so that
+ * the JSON tree of the whole file is never built. The persons read are validated and converted by an
+ * {@link AddressBookLoader.ChunkedLoader} a chunk at a time as the array is parsed, so besides the persons themselves
+ * only one chunk of parsed records is held at once, however large the file.
+ *
+ * A single pass both loads the file and collects the records that cannot be loaded, so that a caller can decide
+ * afterwards whether to fail or to salvage the valid persons, without parsing the file again. The JSON tree of a
+ * record is only kept beyond its chunk if the record is rejected.
+ */
+class JsonAddressBookReader {
+
+    /**
+     * Reads the address book in {@code in}. Fields other than {@code persons} are skipped.
+     *
+     * @throws IOException if {@code in} could not be read or is not in the expected JSON format.
+     * @throws IllegalValueException if a person violates the data constraints or duplicates an earlier person.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        SalvagedAddressBook result = salvage(in);
+        result.requireComplete();
+        return result.getAddressBook();
+    }
+
+    /**
+     * Reads every valid person in {@code in} in a single pass, setting aside the records that cannot be read as
+     * persons together with where they start in {@code in}. If {@code in} stops being valid JSON part way through,
+     * the persons before that point are kept and the position of the error is recorded instead.
+     *
+     * @throws IOException if {@code in} could not be read.
+     */
+    static SalvagedAddressBook salvage(InputStream in) throws IOException {
+        requireNonNull(in);
+        AddressBookLoader.ChunkedLoader<ParsedRecord> loader;
+        JsonParseException parseFailure = null;
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            ObjectCodec codec = parser.getCodec();
+            loader = new AddressBookLoader.ChunkedLoader<>(record -> toPerson(codec, record.tree));
+            try {
+                readPersonElements(parser, elementParser -> {
+                    JsonLocation location = elementParser.getTokenLocation();
+                    loader.add(new ParsedRecord(elementParser.readValueAsTree(), location));
+                });
+            } catch (JsonParseException jpe) {
+                parseFailure = jpe;
+            }
+        }
+
+        AddressBook addressBook = loader.finish();
+        List<QuarantinedRecord> quarantinedRecords = new ArrayList<>();
+        for (AddressBookLoader.Rejection<ParsedRecord> rejection : loader.getRejections()) {
+            ParsedRecord record = rejection.getRecord();
+            quarantinedRecords.add(new QuarantinedRecord(record.location.getLineNr(), record.location.getColumnNr(),
+                    rejection.getMessage(), record.tree));
+        }
+        return new SalvagedAddressBook(addressBook, quarantinedRecords, parseFailure);
+    }
+
+    private static Person toPerson(ObjectCodec codec, JsonNode record) throws IllegalValueException {
+        try {
+            return codec.treeToValue(record, JsonAdaptedPerson.class).toModelType();
+        } catch (JsonProcessingException jpe) {
+            throw new IllegalValueException(jpe.getOriginalMessage(), jpe);
+        }
+    }
+
+    /**
+     * Reads the address book object that {@code parser} is at the start of, calling {@code elementReader} with
+     * {@code parser} positioned at each element of the {@code persons} array. Fields other than {@code persons} are
+     * skipped.
+     */
+    private static void readPersonElements(JsonParser parser, ElementReader elementReader) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            expect(parser, valueToken, JsonToken.START_ARRAY);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of input in " + PERSONS_FIELD);
+                }
+                elementReader.read(parser);
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Reads one element of the {@code persons} array, starting at the current token of the parser.
+     */
+    @FunctionalInterface
+    private interface ElementReader {
+        void read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * An element of the {@code persons} array as parsed, and where it starts.
+     */
+    private static class ParsedRecord {
+        private final JsonNode tree;
+        private final JsonLocation location;
+
+        ParsedRecord(JsonNode tree, JsonLocation location) {
+            this.tree = tree;
+            this.location = location;
+        }
+    }
+
+    /**
+     * The valid persons read from an address book, and the records that were set aside.
+     */
+    static class SalvagedAddressBook {
+        private final AddressBook addressBook;
+        private final List<QuarantinedRecord> quarantinedRecords;
+        private final JsonParseException parseFailure;
+
+        /**
+         * Creates a {@code SalvagedAddressBook}.
+         *
+         * @param parseFailure the error that stopped the address book from being parsed, or null if it was parsed in
+         *     full.
+         */
+        SalvagedAddressBook(AddressBook addressBook, List<QuarantinedRecord> quarantinedRecords,
+                JsonParseException parseFailure) {
+            this.addressBook = addressBook;
+            this.quarantinedRecords = new ArrayList<>(quarantinedRecords);
+            this.parseFailure = parseFailure;
+            if (parseFailure != null) {
+                JsonLocation location = parseFailure.getLocation();
+                this.quarantinedRecords.add(new QuarantinedRecord(location.getLineNr(), location.getColumnNr(),
+                        parseFailure.getOriginalMessage(), null));
+            }
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        /**
+         * Returns the records that were set aside, in file order, followed by the position the file could not be
+         * parsed beyond, if any.
+         */
+        List<QuarantinedRecord> getQuarantinedRecords() {
+            return quarantinedRecords;
+        }
+
+        /**
+         * Returns true if the address book was parsed in full, even if some of its records were set aside.
+         */
+        boolean isParsedInFull() {
+            return parseFailure == null;
+        }
+
+        /**
+         * Throws the error that a strict read of the address book would have stopped at, if there was one.
+         *
+         * @throws IOException if the address book could not be parsed in full.
+         * @throws IllegalValueException if a record was set aside.
+         */
+        void requireComplete() throws IOException, IllegalValueException {
+            if (parseFailure != null) {
+                throw parseFailure;
+            }
+            if (!quarantinedRecords.isEmpty()) {
+                throw new IllegalValueException(quarantinedRecords.get(0).getError());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonAdaptedPerson.ADDRESS_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.BLOOD_TYPE_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.EMAIL_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.EMERGENCY_CONTACT_NAME_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.EMERGENCY_CONTACT_PHONE_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.EMERGENCY_CONTACT_RELATIONSHIP_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.NAME_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.ORGAN_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.PHONE_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.PRIORITY_FIELD;
+import static seedu.address.storage.JsonAdaptedPerson.TAGS_FIELD;
+import static seedu.address.storage.JsonSerializableAddressBook.PERSONS_FIELD;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.EmergencyContact;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the format read by {@link JsonAddressBookReader}, one person at a time, without first
+ * converting the persons to {@link JsonAdaptedPerson}s or the address book to a string.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to {@code out}, flushing but not closing it.
+     *
+     * @param isCompact true if the JSON should be written without indentation or line breaks.
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code person} with the field names that {@link JsonAdaptedPerson} is read with.
+     */
+    static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME_FIELD, person.getName().fullName);
+        generator.writeStringField(PHONE_FIELD, person.getPhone().value);
+        generator.writeStringField(EMAIL_FIELD, person.getEmail().value);
+        generator.writeStringField(ADDRESS_FIELD, person.getAddress().value);
+        generator.writeStringField(ORGAN_FIELD, person.getOrgan().organName);
+        if (person.getBloodType() != null) {
+            generator.writeStringField(BLOOD_TYPE_FIELD, person.getBloodType().bloodType);
+        }
+        generator.writeNumberField(PRIORITY_FIELD, person.getPriority().priority);
+        generator.writeArrayFieldStart(TAGS_FIELD);
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        EmergencyContact emergencyContact = person.getEmergencyContact();
+        if (emergencyContact != null) {
+            generator.writeStringField(EMERGENCY_CONTACT_NAME_FIELD, emergencyContact.getName().fullName);
+            generator.writeStringField(EMERGENCY_CONTACT_PHONE_FIELD, emergencyContact.getPhone().value);
+            generator.writeStringField(EMERGENCY_CONTACT_RELATIONSHIP_FIELD, emergencyContact.getRelationship());
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A record of a damaged data file that could not be loaded, and where in the file it starts.
+ */
+class QuarantinedRecord {
+
+    private final int line;
+    private final int column;
+    private final String error;
+    private final JsonNode record;
+
+    /**
+     * Creates a {@code QuarantinedRecord}.
+     *
+     * @param record the record as read from the file, or null if the file could not be parsed at this position.
+     */
+    QuarantinedRecord(int line, int column, String error, JsonNode record) {
+        this.line = line;
+        this.column = column;
+        this.error = error;
+        this.record = record;
+    }
+
+    int getLine() {
+        return line;
+    }
+
+    int getColumn() {
+        return column;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    JsonNode getRecord() {
+        return record;
+    }
+
+    /**
+     * Writes {@code records}, read from the file at {@code source}, to {@code out} as a JSON document, without closing
+     * {@code out}.
+     */
+    static void writeAll(List<QuarantinedRecord> records, String source, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("source", source);
+            generator.writeArrayFieldStart("records");
+            for (QuarantinedRecord record : records) {
+                generator.writeStartObject();
+                generator.writeNumberField("line", record.line);
+                generator.writeNumberField("column", record.column);
+                generator.writeStringField("error", record.error);
+                if (record.record != null) {
+                    generator.writeFieldName("record");
+                    generator.writeTree(record.record);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
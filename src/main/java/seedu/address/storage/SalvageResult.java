@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The valid persons salvaged from a damaged data file, and where the records that could not be loaded were set aside.
+ */
+public class SalvageResult {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final int quarantinedCount;
+    private final Path quarantineFilePath;
+
+    /**
+     * Creates a {@code SalvageResult}.
+     *
+     * @param quarantineFilePath the file the {@code quarantinedCount} records were written to, or null if there were
+     *     none.
+     */
+    public SalvageResult(ReadOnlyAddressBook addressBook, int quarantinedCount, Path quarantineFilePath) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.quarantinedCount = quarantinedCount;
+        this.quarantineFilePath = quarantineFilePath;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    public int getSalvagedCount() {
+        return addressBook.getPersonList().size();
+    }
+
+    public int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
+    public Optional<Path> getQuarantineFilePath() {
+        return Optional.ofNullable(quarantineFilePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SalvageResult)) {
+            return false;
+        }
+
+        SalvageResult otherSalvageResult = (SalvageResult) other;
+        return addressBook.equals(otherSalvageResult.addressBook)
+                && quarantinedCount == otherSalvageResult.quarantinedCount
+                && Objects.equals(quarantineFilePath, otherSalvageResult.quarantineFilePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(addressBook, quarantinedCount, quarantineFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("salvagedCount", getSalvagedCount())
+                .add("quarantinedCount", quarantinedCount)
+                .add("quarantineFilePath", quarantineFilePath)
+                .toString();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of one write of the address book to storage.
+ */
+public class SaveResult {
+
+    private final long latencyNanos;
+    private final long bytesWritten;
+    private final IOException failure;
+
+    private SaveResult(long latencyNanos, long bytesWritten, IOException failure) {
+        this.latencyNanos = latencyNanos;
+        this.bytesWritten = bytesWritten;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the result of a write of {@code bytesWritten} bytes that succeeded after {@code latencyNanos}
+     * nanoseconds.
+     */
+    public static SaveResult success(long latencyNanos, long bytesWritten) {
+        return new SaveResult(latencyNanos, bytesWritten, null);
+    }
+
+    /**
+     * Returns the result of a write that failed with {@code failure} after {@code latencyNanos} nanoseconds.
+     */
+    public static SaveResult failure(long latencyNanos, IOException failure) {
+        requireNonNull(failure);
+        return new SaveResult(latencyNanos, 0, failure);
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveResult)) {
+            return false;
+        }
+
+        SaveResult otherSaveResult = (SaveResult) other;
+        return latencyNanos == otherSaveResult.latencyNanos
+                && bytesWritten == otherSaveResult.bytesWritten
+                && Objects.equals(failure, otherSaveResult.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latencyNanos, bytesWritten, failure);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("latencyNanos", latencyNanos)
+                .add("bytesWritten", bytesWritten)
+                .add("failure", failure)
+                .toString();
+    }
+}
@@ -1,24 +1,54 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * In asynchronous mode, {@link #saveAddressBook(ReadOnlyAddressBook)} only takes an {@link AddressBookSnapshot} of the
+ * address book, which copies the references to its persons and nothing more, and returns. The snapshot is written by
+ * a dedicated writer thread once the save delay has passed, and saves made while a write is pending replace its
+ * snapshot, so a burst of changes results in a single write. A write that fails is tried again after a delay that
+ * doubles with every failure in a row, and {@link #flush()} and {@link #close()} report a snapshot that still cannot
+ * be written.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    static final long INITIAL_RETRY_DELAY_MILLIS = 500;
+    static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final ScheduledExecutorService writer;
+    private final long saveDelayMillis;
+    private volatile Consumer<SaveResult> saveResultListener = result -> {};
+
+    /** The latest snapshot that has not been written yet, guarded by {@code this}. */
+    private AddressBookSnapshot pendingSnapshot;
+    private boolean isWriteScheduled;
+    /** The number of writes in a row that have failed, guarded by {@code this}. */
+    private int failedWriteCount;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -26,6 +56,25 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = null;
+        this.saveDelayMillis = 0;
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage} that
+     * saves the address book asynchronously, coalescing the saves made within {@code saveDelayMillis} of each other.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        this.addressBookStorage = addressBookStorage;
+        this.userPrefsStorage = userPrefsStorage;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.saveDelayMillis = saveDelayMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,15 +113,187 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<Path> getRecoveredBackupPath() {
+        return addressBookStorage.getRecoveredBackupPath();
+    }
+
+    @Override
+    public Optional<SalvageResult> salvageAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to salvage data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.salvageAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookPreview(int personCount) throws DataLoadingException {
+        logger.fine("Attempting to read the first " + personCount + " persons from file: "
+                + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBookPreview(personCount);
+    }
+
+    /**
+     * Saves {@code addressBook}. In asynchronous mode, a snapshot of it is queued for the writer thread instead, and
+     * failures are reported to the save result listener and by the next {@link #flush()} if the write still fails.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        requireNonNull(addressBook);
+        if (writer == null) {
+            writeAddressBook(addressBook);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        synchronized (this) {
+            pendingSnapshot = pendingSnapshot == null ? snapshot : snapshot.after(pendingSnapshot);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::tryWritePendingSnapshot, saveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        flush();
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public long getBytesWritten() {
+        return addressBookStorage.getBytesWritten();
+    }
+
+    @Override
+    public void setSaveResultListener(Consumer<SaveResult> listener) {
+        requireNonNull(listener);
+        saveResultListener = listener;
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and waits for it to be written.
+     * Does nothing if the address book is saved synchronously.
+     *
+     * @throws IOException if the pending snapshot could not be written, in which case it stays pending.
+     */
+    public void flush() throws IOException {
+        if (writer == null || writer.isShutdown()) {
+            return;
+        }
+        try {
+            writer.submit(() -> {
+                writePendingSnapshot();
+                return null;
+            }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing data file");
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and stops the writer thread.
+     *
+     * @throws IOException if the pending snapshot could not be written, in which case its changes are lost.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (writer != null) {
+                // The retries still scheduled are dropped, as the failure of the last attempt has been reported.
+                writer.shutdownNow();
+            }
+            addressBookStorage.close();
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot as {@link #writePendingSnapshot()} does, for when no one waits for the
+     * result. The failure has been logged and reported to the listener already.
+     */
+    private void tryWritePendingSnapshot() {
+        try {
+            writePendingSnapshot();
+        } catch (IOException ioe) {
+            // The snapshot stays pending and is retried later.
+        }
+    }
+
+    /**
+     * Writes the latest pending snapshot. Runs on the writer thread.
+     * A snapshot that fails to be written stays pending, and another try is scheduled after a delay that doubles with
+     * every failure in a row, up to {@link #MAX_RETRY_DELAY_MILLIS}. A snapshot that replaces one that was never
+     * written takes over its changes, so that they are saved as well.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    private void writePendingSnapshot() throws IOException {
+        AddressBookSnapshot snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            writeAddressBook(snapshot);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data file: " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                pendingSnapshot = pendingSnapshot == null ? snapshot : pendingSnapshot.after(snapshot);
+                failedWriteCount++;
+                if (!isWriteScheduled && !writer.isShutdown()) {
+                    isWriteScheduled = true;
+                    writer.schedule(this::tryWritePendingSnapshot, getRetryDelayMillis(failedWriteCount),
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+            throw ioe;
+        }
+        synchronized (this) {
+            failedWriteCount = 0;
+        }
+    }
+
+    /**
+     * Returns how long to wait before trying again after {@code failedWriteCount} writes in a row have failed.
+     */
+    static long getRetryDelayMillis(int failedWriteCount) {
+        long delayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        for (int i = 1; i < failedWriteCount && delayMillis < MAX_RETRY_DELAY_MILLIS; i++) {
+            delayMillis *= 2;
+        }
+        return Math.min(delayMillis, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Writes {@code addressBook} to the address book storage and reports how long it took, and how many bytes were
+     * written, to the listener.
+     */
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write to data file: " + filePath);
+        long startTime = System.nanoTime();
+        long bytesWrittenBefore = addressBookStorage.getBytesWritten();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } catch (IOException ioe) {
+            saveResultListener.accept(SaveResult.failure(System.nanoTime() - startTime, ioe));
+            throw ioe;
+        }
+        saveResultListener.accept(SaveResult.success(System.nanoTime() - startTime,
+                addressBookStorage.getBytesWritten() - bytesWrittenBefore));
+    }
+
 }
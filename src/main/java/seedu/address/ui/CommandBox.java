@@ -11,6 +11,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.CommandTemplates;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -111,6 +112,16 @@ public class CommandBox extends UiPart<Region> {
                     commandTextField.positionCaret(template.getFirstEmptyPosition());
                 });
             }
+        } else if (parts.length == 1) {
+            // Commands without a template have just their command word completed.
+            Optional<String> completedCommandWord = AddressBookParser.completeCommandWord(commandWord);
+            completedCommandWord.ifPresent(word -> {
+                commandTextField.setText(word + " ");
+                Platform.runLater(() -> {
+                    commandTextField.requestFocus();
+                    commandTextField.positionCaret(commandTextField.getText().length());
+                });
+            });
         }
     }
 
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -122,6 +123,7 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setSaveResultListener(saveResult -> Platform.runLater(() -> statusBarFooter.showSaveResult(saveResult)));
 
         CommandBox commandBox = new CommandBox(this::executeCommand, new HistoryNavigator(logic.getCommandHistory()));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -179,6 +181,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
+            long uiUpdateStartNanos = System.nanoTime();
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -190,6 +193,7 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
+            logic.recordUiUpdate(System.nanoTime() - uiUpdateStartNanos);
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
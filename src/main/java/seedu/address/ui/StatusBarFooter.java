@@ -6,17 +6,25 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.storage.SaveResult;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_SAVED = "Saved in %.1f ms";
+    public static final String MESSAGE_SAVE_FAILED = "Save failed: %s";
+
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveResultStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +33,16 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows how long the latest write of the data file took, or why it failed.
+     * Must be called on the JavaFX application thread.
+     */
+    public void showSaveResult(SaveResult saveResult) {
+        if (saveResult.isSuccessful()) {
+            saveResultStatus.setText(String.format(MESSAGE_SAVED, saveResult.getLatencyNanos() / NANOS_PER_MILLI));
+        } else {
+            saveResultStatus.setText(String.format(MESSAGE_SAVE_FAILED, saveResult.getFailure().get().getMessage()));
+        }
+    }
+
 }
@@ -39,10 +39,40 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScriptAndCheckpoint_success() {
+        parametersStub.namedParameters.put("batch", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", "100");
+        expected.setBatchScriptPath(Paths.get("commands.txt"));
+        expected.setCheckpointInterval(100);
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidCheckpoint_savedOnlyAtEnd() {
+        parametersStub.namedParameters.put("batch", "-");
+        parametersStub.namedParameters.put("checkpoint", "-5");
+        expected.setBatchScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_namedParametersParsed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch=-", "unnamed",
+            "--checkpoint"}));
+        assertFalse(AppParameters.parse(new String[0]).isHeadless());
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchScriptPath=" + appParameters.getBatchScriptPath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +96,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchScriptPath(Paths.get("commands.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,149 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.BLOODTYPE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BLOODTYPE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.ORGAN_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ORGAN_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PRIORITY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PRIORITY_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + ORGAN_DESC_AMY + BLOODTYPE_DESC_AMY + PRIORITY_DESC_AMY + TAG_DESC_FRIEND;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+            + ADDRESS_DESC_BOB + ORGAN_DESC_BOB + BLOODTYPE_DESC_BOB + PRIORITY_DESC_BOB + TAG_DESC_HUSBAND
+            + TAG_DESC_FRIEND;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path addressBookPath;
+    private AppParameters appParameters;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookPath = testFolder.resolve("addressbook.json");
+        Path userPrefsPath = testFolder.resolve("preferences.json");
+        Path configPath = testFolder.resolve("config.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsPath);
+        ConfigUtil.saveConfig(config, configPath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookPath);
+        new JsonUserPrefsStorage(userPrefsPath).saveUserPrefs(userPrefs);
+
+        appParameters = new AppParameters();
+        appParameters.setConfigPath(configPath);
+        appParameters.setBatchScriptPath(AppParameters.STANDARD_INPUT);
+    }
+
+    @Test
+    public void run_validScript_allCommandsRunAndSavedOnce() throws Exception {
+        int status = run("# comment\n" + ADD_AMY + "\n\nl\n" + ADD_BOB + "\n");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(), readAddressBook());
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("Ran 3 commands (0 failed)"), report);
+        assertTrue(report.contains("Saved 1 times"), report);
+        // latencies are recorded under the command word that an abbreviation stands for
+        assertTrue(report.lines().anyMatch(line -> line.matches("add\\s+execute\\s+2\\s.*")), report);
+        assertTrue(report.lines().anyMatch(line -> line.matches("list\\s+execute\\s+1\\s.*")), report);
+    }
+
+    @Test
+    public void run_failingCommand_reportedAndRestRun() throws Exception {
+        int status = run(ADD_AMY + "\ndelete 5\n" + ADD_BOB + "\n");
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, status);
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(), readAddressBook());
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.startsWith("Line 2: "), report);
+        assertTrue(report.contains("Ran 3 commands (1 failed)"), report);
+    }
+
+    @Test
+    public void run_checkpointsAndExit_savedAtEachCheckpointAndStopped() throws Exception {
+        appParameters.setCheckpointInterval(1);
+        int status = run(ADD_AMY + "\nexit\n" + ADD_BOB + "\n");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertEquals(new AddressBookBuilder().withPerson(AMY).build(), readAddressBook());
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("Ran 2 commands (0 failed)"), report);
+        assertTrue(report.contains("Saved 3 times"), report);
+    }
+
+    @Test
+    public void run_scriptFile_commandsRun() throws Exception {
+        Path scriptPath = testFolder.resolve("commands.txt");
+        Files.writeString(scriptPath, ADD_AMY + System.lineSeparator());
+        appParameters.setBatchScriptPath(scriptPath);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(""));
+        assertEquals(new AddressBookBuilder().withPerson(AMY).build(), readAddressBook());
+    }
+
+    @Test
+    public void run_missingScriptFile_errorStatus() throws Exception {
+        appParameters.setBatchScriptPath(testFolder.resolve("missing.txt"));
+        assertEquals(HeadlessApp.EXIT_ERROR, run(""));
+    }
+
+    @Test
+    public void run_unreadableDataFile_dataFileUntouched() throws Exception {
+        Files.writeString(addressBookPath, "not json");
+
+        assertEquals(HeadlessApp.EXIT_ERROR, run(ADD_AMY + "\n"));
+        assertEquals("not json", Files.readString(addressBookPath));
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith("Data file at "));
+    }
+
+    private int run(String script) {
+        HeadlessApp app = new HeadlessApp(appParameters,
+                new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+        return app.run();
+    }
+
+    private AddressBook readAddressBook() throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(addressBookPath).readAddressBook().get());
+    }
+}
@@ -12,7 +12,16 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", isCompactDataFile=" + config.isCompactDataFile()
+                + ", dataFileBackupCount=" + config.getDataFileBackupCount()
+                + ", isJournalEnabled=" + config.isJournalEnabled()
+                + ", journalSyncIntervalMillis=" + config.getJournalSyncIntervalMillis()
+                + ", journalCompactionThresholdBytes=" + config.getJournalCompactionThresholdBytes()
+                + ", isAsyncSaveEnabled=" + config.isAsyncSaveEnabled()
+                + ", saveDelayMillis=" + config.getSaveDelayMillis()
+                + ", metricsDumpIntervalMillis=" + config.getMetricsDumpIntervalMillis()
+                + ", metricsFilePath=" + config.getMetricsFilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
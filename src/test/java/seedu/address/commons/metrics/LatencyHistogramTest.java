@@ -0,0 +1,72 @@
+package seedu.address.commons.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void buckets_contiguousAndContainTheirValues() {
+        long previousHighest = -1;
+        for (int index = 0; index <= LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_NANOS); index++) {
+            long highest = LatencyHistogram.highestValueOf(index);
+            assertEquals(index, LatencyHistogram.indexOf(previousHighest + 1));
+            assertEquals(index, LatencyHistogram.indexOf(highest));
+            // Bucket widths stay within 1/SUB_BUCKET_COUNT of the values they hold.
+            assertTrue((highest - previousHighest) * LatencyHistogram.SUB_BUCKET_COUNT
+                    <= Math.max(previousHighest + 1, LatencyHistogram.SUB_BUCKET_COUNT));
+            previousHighest = highest;
+        }
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, previousHighest);
+        assertEquals(528, LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_NANOS) + 1);
+    }
+
+    @Test
+    public void getPercentileNanos_noLatencies_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    @Test
+    public void record_manyLatencies_percentilesWithinBucketWidth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 1000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMaxNanos());
+        assertEquals(50_000_500.0, histogram.getMeanNanos());
+        assertWithinBucketWidth(50_000_000, histogram.getPercentileNanos(50));
+        assertWithinBucketWidth(99_000_000, histogram.getPercentileNanos(99));
+        assertEquals(100_000_000, histogram.getPercentileNanos(100));
+        assertWithinBucketWidth(1000, histogram.getPercentileNanos(0));
+    }
+
+    @Test
+    public void record_outOfRangeLatencies_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getMaxNanos());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getPercentileNanos(100));
+    }
+
+    private static void assertWithinBucketWidth(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / LatencyHistogram.SUB_BUCKET_COUNT,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
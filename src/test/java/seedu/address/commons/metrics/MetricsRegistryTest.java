@@ -0,0 +1,87 @@
+package seedu.address.commons.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.metrics.MetricsRegistry.Counter;
+import seedu.address.commons.metrics.MetricsRegistry.Phase;
+
+public class MetricsRegistryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    public void record_separateHistogramPerCommandWordAndPhase() {
+        metrics.record("add", Phase.PARSE, 2000);
+        metrics.record("add", Phase.PARSE, 4000);
+        metrics.record("add", Phase.SAVE, 9000);
+        metrics.record("list", Phase.EXECUTE, 1000);
+
+        assertEquals(2, metrics.getHistogram("add", Phase.PARSE).get().getCount());
+        assertEquals(4000, metrics.getHistogram("add", Phase.PARSE).get().getMaxNanos());
+        assertEquals(1, metrics.getHistogram("add", Phase.SAVE).get().getCount());
+        assertEquals(1, metrics.getHistogram("list", Phase.EXECUTE).get().getCount());
+        assertFalse(metrics.getHistogram("add", Phase.EXECUTE).isPresent());
+        assertFalse(metrics.getHistogram("delete", Phase.PARSE).isPresent());
+    }
+
+    @Test
+    public void recordSince_returnsEndOfPhase() {
+        long startNanos = System.nanoTime();
+        long endNanos = metrics.recordSince("add", Phase.PARSE, startNanos);
+        assertTrue(endNanos >= startNanos);
+        assertEquals(endNanos - startNanos, metrics.getHistogram("add", Phase.PARSE).get().getMaxNanos());
+    }
+
+    @Test
+    public void add_countersKeptSeparately() {
+        metrics.increment(Counter.COMMANDS);
+        metrics.increment(Counter.COMMANDS);
+        metrics.add(Counter.BYTES_WRITTEN, 1024);
+        assertEquals(2, metrics.getCount(Counter.COMMANDS));
+        assertEquals(0, metrics.getCount(Counter.ERRORS));
+        assertEquals(1024, metrics.getCount(Counter.BYTES_WRITTEN));
+    }
+
+    @Test
+    public void getReport() {
+        assertEquals(String.format(MetricsRegistry.MESSAGE_COUNTERS, 0, 0, 0), metrics.getReport());
+
+        metrics.increment(Counter.COMMANDS);
+        metrics.record("list", Phase.EXECUTE, 1000);
+        metrics.record("add", Phase.PARSE, 2000);
+        String[] lines = metrics.getReport().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(String.format(MetricsRegistry.MESSAGE_COUNTERS, 1, 0, 0), lines[0]);
+        assertTrue(lines[2].matches("add +parse +1 +2\\.0 +2\\.0 +2\\.0 +2\\.0"), lines[2]);
+        assertTrue(lines[3].matches("list +execute +1 +1\\.0 +1\\.0 +1\\.0 +1\\.0"), lines[3]);
+    }
+
+    @Test
+    public void startDump_invalidInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> metrics.startDump(testFolder.resolve("metrics.txt"), 0));
+    }
+
+    @Test
+    public void stopDump_afterStart_writesReport() throws Exception {
+        Path filePath = testFolder.resolve("dump").resolve("metrics.txt");
+        metrics.stopDump();
+        assertFalse(Files.exists(filePath));
+
+        metrics.startDump(filePath, 60_000);
+        metrics.increment(Counter.ERRORS);
+        metrics.stopDump();
+        assertEquals(metrics.getReport() + "\n", Files.readString(filePath));
+    }
+}
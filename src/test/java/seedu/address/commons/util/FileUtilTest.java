@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,61 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_rotatesBackups() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.json");
+        for (String content : new String[] {"one", "two", "three", "four"}) {
+            FileUtil.writeAtomically(file, 2, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertEquals("four", FileUtil.readFromFile(file));
+        assertEquals("three", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("two", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
+    @Test
+    public void writeAtomically_backupKept_keepsPreviousContents() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeAtomically(file, 1, out -> out.write('a'));
+        FileUtil.writeAtomically(file, 1, out -> {
+            // the file is still in place while the new contents are written
+            assertEquals("a", FileUtil.readFromFile(file));
+            out.write('b');
+        });
+        FileUtil.writeAtomically(file, 1, out -> out.write('c'));
+
+        assertEquals("c", FileUtil.readFromFile(file));
+        assertEquals("b", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertFalse(Files.isSameFile(file, FileUtil.getBackupPath(file, 1)));
+    }
+
+    @Test
+    public void writeAtomically_noBackups_onlyFileWritten() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeAtomically(file, 0, out -> out.write('a'));
+        FileUtil.writeAtomically(file, 0, out -> out.write('b'));
+        assertEquals("b", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.toFile().list().length);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeAtomically(file, 1, out -> out.write('a'));
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 1, out -> {
+            out.write('b');
+            throw new IOException("Disk full");
+        }));
+        assertEquals("a", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.toFile().list().length);
+    }
+
+    @Test
+    public void getBackupPath() {
+        assertEquals(Paths.get("data", "addressbook.json.2"),
+                FileUtil.getBackupPath(Paths.get("data", "addressbook.json"), 2));
+        assertThrows(IllegalArgumentException.class, () -> FileUtil.getBackupPath(Paths.get("a.json"), 0));
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,20 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("alice bob 12", StringUtil.foldCase("aLIce BOB 12"));
+        assertEquals(StringUtil.foldCase("k"), StringUtil.foldCase("\u212A")); // Kelvin sign equalsIgnoreCase "k"
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,100 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Organ;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters on either side of each boundary of the character classes used by the scans. */
+    private static final String SAMPLE_CHARACTERS = "09/:AZ@[az`{ \t\n_-\u00e9\u0663\uff21";
+
+    @Test
+    public void isDigits() {
+        // EP: exact number of ASCII digits
+        assertTrue(ValidationUtil.isDigits("91234567", 8));
+        assertTrue(ValidationUtil.isDigits("", 0));
+
+        // EP: wrong length
+        assertFalse(ValidationUtil.isDigits("9123456", 8));
+        assertFalse(ValidationUtil.isDigits("912345678", 8));
+
+        // EP: non-ASCII or non-digit characters
+        assertFalse(ValidationUtil.isDigits("9123456a", 8));
+        assertFalse(ValidationUtil.isDigits("9123456\u0663", 8));
+        assertFalse(ValidationUtil.isDigits("9123 567", 8));
+
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 8));
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertTrue(ValidationUtil.isAlphanumericWords("Alex Yeoh 2nd"));
+        assertTrue(ValidationUtil.isAlphanumericWords("a  "));
+        assertFalse(ValidationUtil.isAlphanumericWords(""));
+        assertFalse(ValidationUtil.isAlphanumericWords(" Alex"));
+        assertFalse(ValidationUtil.isAlphanumericWords("Alex\tYeoh"));
+        assertFalse(ValidationUtil.isAlphanumericWords("Zo\u00eb"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+    }
+
+    @Test
+    public void matches_sameResultsAsStringMatches() {
+        Pattern pattern = Pattern.compile("[^\\s].*");
+        for (String sample : allStringsUpToLength(3)) {
+            assertEquals(sample.matches("[^\\s].*"), ValidationUtil.matches(pattern, sample), sample);
+        }
+    }
+
+    @Test
+    public void fieldValidators_sameResultsAsValidationRegex() {
+        List<String> samples = allStringsUpToLength(3);
+        assertSameResultsAsRegex(Name.VALIDATION_REGEX, Name::isValidName, samples);
+        assertSameResultsAsRegex(Organ.VALIDATION_REGEX, Organ::isValidOrgan, samples);
+        assertSameResultsAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName, samples);
+
+        // phones must be of a fixed length, so vary the last characters of a number just short of it
+        String phonePrefix = "91234567".substring(0, Phone.DIGIT_COUNT - 1);
+        List<String> phoneSamples = new ArrayList<>(samples);
+        for (String sample : allStringsUpToLength(2)) {
+            phoneSamples.add(phonePrefix + sample);
+        }
+        assertSameResultsAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone, phoneSamples);
+    }
+
+    private static void assertSameResultsAsRegex(String regex, Predicate<String> validator, List<String> samples) {
+        Pattern pattern = Pattern.compile(regex);
+        for (String sample : samples) {
+            assertEquals(pattern.matcher(sample).matches(), validator.test(sample), regex + " on " + sample);
+        }
+    }
+
+    private static List<String> allStringsUpToLength(int maxLength) {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+        int start = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            int end = strings.size();
+            for (int i = start; i < end; i++) {
+                for (char c : SAMPLE_CHARACTERS.toCharArray()) {
+                    strings.add(strings.get(i) + c);
+                }
+            }
+            start = end;
+        }
+        return strings;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,18 +12,25 @@ import static seedu.address.logic.commands.CommandTestUtil.ORGAN_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PRIORITY_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.metrics.MetricsRegistry;
+import seedu.address.commons.metrics.MetricsRegistry.Counter;
+import seedu.address.commons.metrics.MetricsRegistry.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,6 +42,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -85,6 +94,141 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("SavedAddressBook.json");
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // the data file does not exist yet, so the first command creates it
+        logic = new LogicManager(model, storage, false, true);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ORGAN_DESC_AMY + BLOODTYPE_DESC_AMY + PRIORITY_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_autoSaveOff_savedOnlyOnRequest() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("BatchAddressBook.json");
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        logic.setAutoSave(false);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ORGAN_DESC_AMY + BLOODTYPE_DESC_AMY + PRIORITY_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.saveAddressBook();
+        assertEquals(1, saveCount[0]);
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+
+        // nothing has changed since the last save
+        logic.saveAddressBook();
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_recordsPhasesAndCounters() throws Exception {
+        MetricsRegistry metrics = model.getMetrics();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + ORGAN_DESC_AMY + BLOODTYPE_DESC_AMY + PRIORITY_DESC_AMY);
+        logic.recordUiUpdate(1000);
+        assertThrows(CommandException.class, () -> logic.execute(DeleteCommand.COMMAND_WORD + " 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(3, metrics.getCount(Counter.COMMANDS));
+        assertEquals(2, metrics.getCount(Counter.ERRORS));
+        assertEquals(Files.size(temporaryFolder.resolve("addressBook.json")), metrics.getCount(Counter.BYTES_WRITTEN));
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, metrics.getHistogram(AddCommand.COMMAND_WORD, phase).get().getCount());
+        }
+        assertEquals(1, metrics.getHistogram(DeleteCommand.COMMAND_WORD, Phase.PARSE).get().getCount());
+        assertEquals(1, metrics.getHistogram(DeleteCommand.COMMAND_WORD, Phase.EXECUTE).get().getCount());
+        assertFalse(metrics.getHistogram(DeleteCommand.COMMAND_WORD, Phase.SAVE).isPresent());
+        assertEquals(1, metrics.getHistogram(MetricsRegistry.UNKNOWN_COMMAND_WORD, Phase.PARSE).get().getCount());
+    }
+
+    @Test
+    public void execute_addressBookLoading_refusedUntilLoaded() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("LoadingAddressBook.json");
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        logic = new LogicManager(model, storage, true, false);
+
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+
+        logic.finishLoadingAddressBook(getTypicalAddressBook(), false);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        saveCount[0] = 0;
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+    }
+
+    @Test
+    public void execute_loadedAddressBookNotInDataFile_savedOnce() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("RecoveredAddressBook.json");
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        addressBookStorage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        logic = new LogicManager(model, storage, true, false);
+
+        // the address book was recovered from elsewhere, so the data file exists but does not hold it
+        logic.finishLoadingAddressBook(getTypicalAddressBook(), true);
+        saveCount[0] = 0;
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        assertEquals(getTypicalAddressBook(), addressBookStorage.readAddressBook().get());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
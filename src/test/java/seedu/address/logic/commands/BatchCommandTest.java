@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_addEditDelete_allApplied() {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddCommand(HOON),
+                new DeleteCommand(INDEX_FIRST_PERSON),
+                new EditCommand(INDEX_SECOND_PERSON, new EditPersonDescriptorBuilder().withPriority(5).build()),
+                new AddCommand(IDA)));
+
+        // indexes refer to the list displayed before the batch
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.deletePerson(ALICE);
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withPriority(5).build());
+        expectedModel.addPerson(IDA);
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 4), expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_indexesReferToFilteredList() {
+        model.updateFilteredPersonList(Arrays.asList(CARL, ELLE, FIONA)::contains);
+        List<Person> displayedPersons = List.copyOf(model.getFilteredPersonList());
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptorBuilder().withPriority(5).build()),
+                new DeleteCommand(INDEX_SECOND_PERSON),
+                new AddCommand(HOON),
+                new DeleteCommand(INDEX_THIRD_PERSON)));
+
+        // the edit and the add show all persons, but later indexes still refer to the list displayed before the batch
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(displayedPersons.get(0), new PersonBuilder(displayedPersons.get(0)).withPriority(5)
+                .build());
+        expectedModel.deletePerson(displayedPersons.get(1));
+        expectedModel.addPerson(HOON);
+        expectedModel.deletePerson(displayedPersons.get(2));
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 4), expectedModel);
+    }
+
+    @Test
+    public void execute_failingCommand_nothingApplied() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddCommand(HOON),
+                new DeleteCommand(outOfBoundIndex)));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.hasPerson(HOON));
+    }
+
+    @Test
+    public void execute_duplicateAddedInBatch_nothingApplied() {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddCommand(HOON), new AddCommand(HOON)));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                AddCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void execute_personDeletedTwice_nothingApplied() {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON),
+                new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                BatchCommand.MESSAGE_PERSON_ALREADY_CHANGED));
+
+        // the model can run another batch after a failed one
+        assertCommandSuccess(new BatchCommand(Collections.singletonList(new DeleteCommand(INDEX_FIRST_PERSON))),
+                model, String.format(BatchCommand.MESSAGE_SUCCESS, 1), modelWithout(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(Collections.singletonList(new AddCommand(HOON)));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Collections.singletonList(new AddCommand(HOON)))));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(1));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Collections.singletonList(new AddCommand(IDA)))));
+    }
+
+    private static Model modelWithout(Person person) {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(person);
+        return expectedModel;
+    }
+}
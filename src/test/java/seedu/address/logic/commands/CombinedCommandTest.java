@@ -59,6 +59,23 @@ public class CombinedCommandTest {
 
         // different predicate -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different explain flag -> returns false
+        assertFalse(findFirstCommand.equals(new CombinedCommand(firstPredicate, true)));
+    }
+
+    @Test
+    public void execute_explain_reportsPlan() {
+        CombinedPredicate predicate = new CombinedPredicate(
+                Optional.of(new NameExactMatchPredicate("Alice Pauline")),
+                Optional.of(new OrganContainsSubstringPredicate("kidney")),
+                Optional.empty());
+        String feedback = new CombinedCommand(predicate, true).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1)));
+        assertTrue(feedback.contains("Plan: Drive from name index (estimated 1 of 7 persons), "
+                + "then filter by organ (estimated 3)"));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
 
     @Test
@@ -130,8 +147,13 @@ public class CombinedCommandTest {
                 Optional.empty(),
                 Optional.empty());
         CombinedCommand combinedCommand = new CombinedCommand(predicate);
-        String expected = CombinedCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = CombinedCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplain=false}";
         assertEquals(expected, combinedCommand.toString());
+
+        String expectedExplain = CombinedCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", isExplain=true}";
+        assertEquals(expectedExplain, new CombinedCommand(predicate, true).toString());
     }
 }
 
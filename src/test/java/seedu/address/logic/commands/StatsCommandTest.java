@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.metrics.MetricsRegistry.Counter;
+import seedu.address.commons.metrics.MetricsRegistry.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_showsReport() {
+        model.getMetrics().increment(Counter.COMMANDS);
+        model.getMetrics().record(ListCommand.COMMAND_WORD, Phase.EXECUTE, 1000);
+        assertCommandSuccess(new StatsCommand(), model, model.getMetrics().getReport(), expectedModel);
+    }
+}
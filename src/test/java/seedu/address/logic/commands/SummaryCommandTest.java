@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for SummaryCommand.
@@ -56,6 +58,39 @@ public class SummaryCommandTest {
         assertTrue(output.contains("Total"));
     }
 
+    @Test
+    public void execute_bloodTypeBreakdown_showsCountsPerBloodType() {
+        String output = new SummaryCommand(true, false).execute(model).getFeedbackToUser();
+
+        String expectedKidney = String.format("%-15s : %d patient(s)%n", "KIDNEY", 3)
+                + String.format("  %-13s : %d patient(s)%n", "B-", 1)
+                + String.format("  %-13s : %d patient(s)%n", "O+", 1)
+                + String.format("  %-13s : %d patient(s)%n", "O-", 1);
+        assertTrue(output.contains(expectedKidney));
+        assertFalse(output.contains("Priority"));
+    }
+
+    @Test
+    public void execute_priorityBreakdown_showsCountsPerPriority() {
+        String output = new SummaryCommand(false, true).execute(model).getFeedbackToUser();
+
+        String expectedCornea = String.format("%-15s : %d patient(s)%n", "CORNEA", 2)
+                + String.format("  %-13s : %d patient(s)%n", "Priority 3", 1)
+                + String.format("  %-13s : %d patient(s)%n", "Priority 5", 1);
+        assertTrue(output.contains(expectedCornea));
+        assertTrue(output.contains(String.format("%-15s : %d patient(s)", "Total", 7)));
+    }
+
+    @Test
+    public void execute_afterEdit_reflectsUpdatedCounts() {
+        Person alice = model.getFilteredPersonList().get(0);
+        model.setPerson(alice, new PersonBuilder(alice).withOrgan("lung").build());
+
+        String output = new SummaryCommand().execute(model).getFeedbackToUser();
+        assertTrue(output.contains(String.format("%-15s : %d patient(s)%n", "KIDNEY", 2)));
+        assertTrue(output.contains(String.format("%-15s : %d patient(s)%n", "LUNG", 1)));
+    }
+
     @Test
     public void equals() {
         SummaryCommand summaryCommand1 = new SummaryCommand();
@@ -72,6 +107,10 @@ public class SummaryCommandTest {
 
         // null -> returns false
         assertFalse(summaryCommand1.equals(null));
+
+        // different breakdowns -> returns false
+        assertFalse(summaryCommand1.equals(new SummaryCommand(true, false)));
+        assertFalse(new SummaryCommand(true, false).equals(new SummaryCommand(false, true)));
     }
 
     @Test
@@ -89,8 +128,8 @@ public class SummaryCommandTest {
 
     @Test
     public void toStringMethod() {
-        SummaryCommand summaryCommand = new SummaryCommand();
-        String expected = SummaryCommand.class.getCanonicalName() + "{}";
+        SummaryCommand summaryCommand = new SummaryCommand(true, false);
+        String expected = SummaryCommand.class.getCanonicalName() + "{isByBloodType=true, isByPriority=false}";
         assertEquals(expected, summaryCommand.toString());
     }
 }
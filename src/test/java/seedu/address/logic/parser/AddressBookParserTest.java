@@ -2,19 +2,25 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CombinedCommand;
+import seedu.address.logic.commands.CompatibleCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -22,6 +28,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SummaryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -41,6 +48,13 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " "
+                + DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new BatchCommand(Collections.singletonList(new DeleteCommand(INDEX_FIRST_PERSON))), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -94,6 +108,56 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD) instanceof SummaryCommand);
         assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD + " ") instanceof SummaryCommand);
         assertTrue(parser.parseCommand(SummaryCommand.COMMAND_WORD + "   ") instanceof SummaryCommand);
+        assertEquals(new SummaryCommand(true, true), parser.parseCommand(SummaryCommand.COMMAND_WORD + " b/ r/"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_commandWordConsumer_givenResolvedCommandWord() throws Exception {
+        List<String> commandWords = new ArrayList<>();
+        parser.parseCommand("  comp O-", commandWords::add);
+        parser.parseCommand(ClearCommand.COMMAND_WORD, commandWords::add);
+        assertThrows(ParseException.class, () -> parser.parseCommand(EditCommand.COMMAND_WORD, commandWords::add));
+        assertThrows(ParseException.class, () -> parser.parseCommand("cl", commandWords::add));
+        assertThrows(ParseException.class, () -> parser.parseCommand("d 1", commandWords::add));
+        assertThrows(ParseException.class, () -> parser.parseCommand("com", commandWords::add));
+        assertThrows(ParseException.class, () -> parser.parseCommand("", commandWords::add));
+        assertEquals(Arrays.asList(CompatibleCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+                EditCommand.COMMAND_WORD), commandWords);
+    }
+
+    @Test
+    public void parseCommand_abbreviatedCommandWord_sameCommand() throws Exception {
+        assertEquals(parser.parseCommand(CompatibleCommand.COMMAND_WORD + " O-"), parser.parseCommand("comp O-"));
+        assertTrue(parser.parseCommand("l") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousCommandWord_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_AMBIGUOUS_COMMAND, "com",
+                CombinedCommand.COMMAND_WORD + ", " + CompatibleCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseCommand("com"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedClear_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedDelete_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("d 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("del 1"));
+    }
+
+    @Test
+    public void parseCommand_abbreviatedBatch_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("bat delete 1"));
     }
 
     @Test
@@ -4,9 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.exceptions.ParseException;
+
 public class ArgumentTokenizerTest {
 
     private final Prefix unknownPrefix = new Prefix("--u");
@@ -136,6 +140,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsLongerPrefix_longerPrefixTaken() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt both -t short -tt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashT, "short");
+        assertArgumentPresent(argMultimap, dashTt, "both", "");
+    }
+
+    @Test
+    public void verifyNoDuplicatePrefixesFor() throws Exception {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/1 -t 2 p/3", pSlash, dashT, hatQ);
+        argMultimap.verifyNoDuplicatePrefixesFor(dashT, hatQ, unknownPrefix);
+        assertThrows(ParseException.class, Messages.getErrorMessageForDuplicatePrefixes(pSlash), () ->
+                argMultimap.verifyNoDuplicatePrefixesFor(pSlash, dashT));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
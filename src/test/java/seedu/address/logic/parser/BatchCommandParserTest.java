@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchCommandParserTest {
+
+    private BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_validCommands_returnsBatchCommand() {
+        Person person = new PersonBuilder().build();
+        BatchCommand expectedCommand = new BatchCommand(Arrays.asList(new AddCommand(person),
+                new EditCommand(INDEX_SECOND_PERSON, new EditPersonDescriptorBuilder().withPriority(5).build()),
+                new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        assertParseSuccess(parser, " " + PersonUtil.getAddCommand(person) + "; edit 2 r/5 ;delete 1",
+                expectedCommand);
+
+        // empty commands skipped
+        assertParseSuccess(parser, " ; " + PersonUtil.getAddCommand(person) + ";; edit 2 r/5; delete 1;",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " ; ", expectedMessage);
+    }
+
+    @Test
+    public void parse_unsupportedCommand_throwsParseException() {
+        assertParseFailure(parser, " delete 1; " + ListCommand.COMMAND_WORD,
+                String.format(BatchCommandParser.MESSAGE_UNSUPPORTED_COMMAND, 2, ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parse_invalidBatchedCommand_throwsParseException() {
+        assertParseFailure(parser, " delete 1; delete a",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCHED_COMMAND, 2,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE)));
+    }
+}
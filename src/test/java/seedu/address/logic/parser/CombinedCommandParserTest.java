@@ -43,6 +43,16 @@ public class CombinedCommandParserTest {
         assertParseSuccess(parser, " n/Alice", expectedCommand);
     }
 
+    @Test
+    public void parse_explainFlag_returnsExplainingCombinedCommand() {
+        CombinedPredicate expectedPredicate = new CombinedPredicate(
+                Optional.of(new NameExactMatchPredicate("Alice")),
+                Optional.empty(),
+                Optional.empty());
+        assertParseSuccess(parser, " explain n/Alice", new CombinedCommand(expectedPredicate, true));
+        assertParseSuccess(parser, " EXPLAIN n/Alice", new CombinedCommand(expectedPredicate, true));
+    }
+
     @Test
     public void parse_validOrganOnly_returnsCombinedCommand() {
         CombinedPredicate expectedPredicate = new CombinedPredicate(
@@ -56,6 +56,13 @@ public class CommandTemplatesTest {
         assertFalse(CommandTemplates.hasTemplate("delete"));
     }
 
+    @Test
+    public void getTemplate_abbreviatedCommandWord_returnsTemplate() {
+        assertEquals(CommandTemplates.getTemplate("add"), CommandTemplates.getTemplate("a"));
+        assertTrue(CommandTemplates.hasTemplate("Ad"));
+        assertFalse(CommandTemplates.hasTemplate("d"));
+    }
+
     @Test
     public void template_constructor_setsFieldsCorrectly() {
         String templateText = "add n/ p/ e/";
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CommandWordTrieTest {
+
+    private final CommandWordTrie<Integer> trie = new CommandWordTrie<>();
+
+    @BeforeEach
+    public void setUp() {
+        trie.put("compatible", 1);
+        trie.put("combined", 2);
+        trie.put("organ", 3);
+        trie.put("or", 4);
+    }
+
+    @Test
+    public void put_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> trie.put(null, 1));
+        assertThrows(NullPointerException.class, () -> trie.put("add", null));
+        assertThrows(IllegalArgumentException.class, () -> trie.put("", 1));
+    }
+
+    @Test
+    public void get_exactWordOnly() {
+        assertEquals(Optional.of(1), trie.get("compatible"));
+        assertEquals(Optional.of(4), trie.get("or"));
+        assertFalse(trie.get("comp").isPresent());
+        assertFalse(trie.get("compatibles").isPresent());
+    }
+
+    @Test
+    public void put_existingWord_replacesValue() {
+        trie.put("combined", 5);
+        assertEquals(Optional.of(5), trie.get("combined"));
+        assertEquals(Optional.of("combined"), trie.resolve("comb"));
+    }
+
+    @Test
+    public void resolve_uniquePrefix_returnsWord() {
+        assertEquals(Optional.of("compatible"), trie.resolve("comp"));
+        assertEquals(Optional.of("combined"), trie.resolve("comb"));
+        assertEquals(Optional.of("combined"), trie.resolve("combined"));
+        assertEquals(Optional.of("organ"), trie.resolve("org"));
+    }
+
+    @Test
+    public void resolve_exactWordThatPrefixesOthers_returnsExactWord() {
+        assertEquals(Optional.of("or"), trie.resolve("or"));
+    }
+
+    @Test
+    public void resolve_ambiguousOrUnknownPrefix_returnsEmpty() {
+        assertFalse(trie.resolve("com").isPresent());
+        assertFalse(trie.resolve("o").isPresent());
+        assertFalse(trie.resolve("").isPresent());
+        assertFalse(trie.resolve("x").isPresent());
+    }
+
+    @Test
+    public void getWordsStartingWith_sortedWords() {
+        assertEquals(Arrays.asList("combined", "compatible"), trie.getWordsStartingWith("com"));
+        assertEquals(Arrays.asList("combined", "compatible", "or", "organ"), trie.getWordsStartingWith(""));
+        assertEquals(Collections.emptyList(), trie.getWordsStartingWith("x"));
+    }
+}
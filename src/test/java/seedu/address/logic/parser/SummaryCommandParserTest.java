@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SummaryCommand;
+
+public class SummaryCommandParserTest {
+
+    private SummaryCommandParser parser = new SummaryCommandParser();
+
+    @Test
+    public void parse_noBreakdown_returnsSummaryCommand() {
+        assertParseSuccess(parser, "", new SummaryCommand());
+        assertParseSuccess(parser, "   ", new SummaryCommand());
+    }
+
+    @Test
+    public void parse_breakdowns_returnsSummaryCommand() {
+        assertParseSuccess(parser, " b/", new SummaryCommand(true, false));
+        assertParseSuccess(parser, " r/", new SummaryCommand(false, true));
+        assertParseSuccess(parser, " r/ b/", new SummaryCommand(true, true));
+    }
+}
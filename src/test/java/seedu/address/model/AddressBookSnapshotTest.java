@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.of(null));
+    }
+
+    @Test
+    public void of_addressBookChangedAfterwards_keepsPersonsAtSnapshot() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> expectedPersons = List.copyOf(addressBook.getPersonList());
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        assertEquals(expectedPersons, snapshot.getPersonList());
+        assertFalse(snapshot.getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void of_snapshot_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook());
+        assertSame(snapshot, AddressBookSnapshot.of(snapshot));
+    }
+
+    @Test
+    public void of_addressBookWithChanges_copiesChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertFalse(AddressBookSnapshot.of(addressBook).getChangesSinceLastSave().isPresent());
+
+        addressBook.markSaved();
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        addressBook.removePerson(ALICE);
+        assertEquals(Optional.of(List.of(PersonChange.added(HOON))), snapshot.getChangesSinceLastSave());
+    }
+
+    @Test
+    public void after_earlierSnapshot_combinesChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.markSaved();
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot earlier = AddressBookSnapshot.of(addressBook);
+        addressBook.markSaved();
+        addressBook.removePerson(ALICE);
+        AddressBookSnapshot later = AddressBookSnapshot.of(addressBook);
+
+        AddressBookSnapshot combined = later.after(earlier);
+        assertEquals(later.getPersonList(), combined.getPersonList());
+        assertEquals(Optional.of(List.of(PersonChange.added(HOON), PersonChange.removed(ALICE))),
+                combined.getChangesSinceLastSave());
+        assertFalse(later.after(AddressBookSnapshot.of(getTypicalAddressBook())).getChangesSinceLastSave()
+                .isPresent());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+}
@@ -20,6 +20,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void resetData_withFileFormat_success() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs newUserPrefs = new UserPrefs();
+        newUserPrefs.setAddressBookFileFormat(DataFileFormat.BINARY);
+        userPrefs.resetData(newUserPrefs);
+        assertEquals(DataFileFormat.BINARY, userPrefs.getAddressBookFileFormat());
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
     @Test
     public void getLastFilterKeywords_defaultValue_returnsEmptyString() {
         UserPrefs userPrefs = new UserPrefs();
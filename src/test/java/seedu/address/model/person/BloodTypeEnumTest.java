@@ -1,9 +1,15 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 public class BloodTypeEnumTest {
@@ -26,4 +32,38 @@ public class BloodTypeEnumTest {
         assertTrue(BloodTypeEnum.isValidBloodType("B+"));
         assertTrue(BloodTypeEnum.isValidBloodType("B-"));
     }
+
+    @Test
+    public void getCompatibleDonorsMask_matchesCompatibilityTable() {
+        Map<String, List<String>> compatibleDonors = new HashMap<>();
+        compatibleDonors.put("O-", Arrays.asList("O-"));
+        compatibleDonors.put("O+", Arrays.asList("O-", "O+"));
+        compatibleDonors.put("A-", Arrays.asList("O-", "A-"));
+        compatibleDonors.put("A+", Arrays.asList("O-", "O+", "A-", "A+"));
+        compatibleDonors.put("B-", Arrays.asList("O-", "B-"));
+        compatibleDonors.put("B+", Arrays.asList("O-", "O+", "B-", "B+"));
+        compatibleDonors.put("AB-", Arrays.asList("O-", "A-", "B-", "AB-"));
+        compatibleDonors.put("AB+", Arrays.asList("O-", "O+", "A-", "A+", "B-", "B+", "AB-", "AB+"));
+
+        for (BloodTypeEnum recipient : BloodTypeEnum.values()) {
+            for (BloodTypeEnum donor : BloodTypeEnum.values()) {
+                boolean expected = compatibleDonors.get(recipient.toString()).contains(donor.toString());
+                assertEquals(expected, (recipient.getCompatibleDonorsMask() & donor.getMask()) != 0);
+                assertEquals(expected, (donor.getCompatibleRecipientsMask() & recipient.getMask()) != 0);
+            }
+        }
+    }
+
+    @Test
+    public void fromLabel() {
+        assertEquals(BloodTypeEnum.AB_NEGATIVE, BloodTypeEnum.fromLabel("ab-"));
+        assertThrows(IllegalArgumentException.class, () -> BloodTypeEnum.fromLabel("C+"));
+    }
+
+    @Test
+    public void fromMask() {
+        for (BloodTypeEnum bloodType : BloodTypeEnum.values()) {
+            assertEquals(bloodType, BloodTypeEnum.fromMask(bloodType.getMask()));
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CombinedQueryPlanTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonIndex personIndex = uniquePersonList.getPersonIndex();
+
+    @BeforeEach
+    public void setUp() {
+        uniquePersonList.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void plan_drivesFromMostSelectiveCriterion() {
+        CombinedPredicate predicate = new CombinedPredicate(
+                Optional.empty(),
+                Optional.of(new OrganContainsSubstringPredicate("kidney")),
+                Optional.of(new BloodTypeRecipientCompatiblePredicate(List.of(new BloodType("AB+")))));
+        assertEquals("Drive from organ index (estimated 3 of 7 persons), then filter by blood type (estimated 7)",
+                predicate.plan(personIndex).describe());
+
+        predicate = new CombinedPredicate(
+                Optional.of(new NameExactMatchPredicate(ALICE.getName().fullName)),
+                Optional.of(new OrganContainsSubstringPredicate("kidney")),
+                Optional.empty());
+        assertEquals("Drive from name index (estimated 1 of 7 persons), then filter by organ (estimated 3)",
+                predicate.plan(personIndex).describe());
+    }
+
+    @Test
+    public void plan_tiedEstimates_keepsCriteriaOrder() {
+        CombinedPredicate predicate = new CombinedPredicate(
+                Optional.of(new NameExactMatchPredicate("nobody")),
+                Optional.of(new OrganContainsSubstringPredicate("nothing")),
+                Optional.empty());
+        assertEquals("Drive from name index (estimated 0 of 7 persons), then filter by organ (estimated 0)",
+                predicate.plan(personIndex).describe());
+    }
+
+    @Test
+    public void execute_matchesTest() {
+        assertExecuteMatchesTest(new CombinedPredicate(Optional.empty(), Optional.empty(), Optional.empty()));
+        assertExecuteMatchesTest(new CombinedPredicate(
+                Optional.of(new NameExactMatchPredicate("alice PAULINE")),
+                Optional.empty(),
+                Optional.empty()));
+        assertExecuteMatchesTest(new CombinedPredicate(
+                Optional.empty(),
+                Optional.of(new OrganContainsSubstringPredicate("e")),
+                Optional.of(new BloodTypeRecipientCompatiblePredicate(List.of(new BloodType("B+"))))));
+        assertExecuteMatchesTest(new CombinedPredicate(
+                Optional.of(new NameExactMatchPredicate(ALICE.getName().fullName)),
+                Optional.of(new OrganContainsSubstringPredicate("ki")),
+                Optional.of(new BloodTypeRecipientCompatiblePredicate(List.of(new BloodType("O-"))))));
+    }
+
+    private void assertExecuteMatchesTest(CombinedPredicate predicate) {
+        Set<Person> expected = uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(predicate)
+                .collect(Collectors.toSet());
+        assertEquals(expected, predicate.plan(personIndex).execute(personIndex));
+        assertEquals(expected, predicate.resolve(personIndex));
+        assertEquals(expected, predicate.withPlan(predicate.plan(personIndex)).resolve(personIndex));
+    }
+}
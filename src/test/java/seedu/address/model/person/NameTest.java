@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +40,20 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void constructor_whitespace_normalizedToSingleSpaces() {
+        assertEquals("Peter Jack", new Name("Peter Jack").fullName);
+        assertEquals("Peter Jack", new Name("Peter  Jack").fullName);
+        assertEquals("Peter Jack", new Name("Peter\tJack").fullName);
+        assertEquals("Peter Jack ", new Name("Peter \n Jack\r\n").fullName);
+    }
+
+    @Test
+    public void getFoldedTokens() {
+        assertArrayEquals(new String[] {"peter"}, new Name("PETER").getFoldedTokens());
+        assertArrayEquals(new String[] {"peter", "jack", "2nd"}, new Name("Peter  Jack 2nd ").getFoldedTokens());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -0,0 +1,48 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class OrganCountCubeTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final OrganCountCube organCounts = uniquePersonList.getPersonIndex().getOrganCounts();
+
+    @Test
+    public void count_typicalPersons() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertEquals(List.of("CORNEA", "HEART", "KIDNEY", "LIVER"), List.copyOf(organCounts.getOrganNames()));
+        assertEquals(3, organCounts.count("KIDNEY"));
+        assertEquals(1, organCounts.count("KIDNEY", BloodTypeEnum.O_POSITIVE));
+        assertEquals(0, organCounts.count("KIDNEY", BloodTypeEnum.A_POSITIVE));
+        assertEquals(1, organCounts.count("KIDNEY", new Priority(5)));
+        assertEquals(0, organCounts.count("LUNG"));
+        assertEquals(0, organCounts.count("LUNG", BloodTypeEnum.O_POSITIVE));
+        assertEquals(0, organCounts.count("LUNG", new Priority(1)));
+    }
+
+    @Test
+    public void setPerson_movesCount() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withOrgan("lung").withBloodType("A+").withPriority(2).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of("LUNG"), List.copyOf(organCounts.getOrganNames()));
+        assertEquals(1, organCounts.count("LUNG", BloodTypeEnum.A_POSITIVE));
+        assertEquals(1, organCounts.count("LUNG", new Priority(2)));
+    }
+
+    @Test
+    public void remove_lastPersonWithOrgan_removesOrgan() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(), List.copyOf(organCounts.getOrganNames()));
+        assertEquals(0, organCounts.count("KIDNEY"));
+    }
+}
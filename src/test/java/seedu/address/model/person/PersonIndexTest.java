@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.UniquePersonListUtil;
+
+public class PersonIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonIndex personIndex = uniquePersonList.getPersonIndex();
+
+    @Test
+    public void add_indexesPerson() {
+        uniquePersonList.add(ELLE);
+        assertTrue(personIndex.getPersonsWithOrgan("HEART").contains(ELLE));
+        assertTrue(personIndex.getPersonsWithBloodType(BloodTypeEnum.AB_NEGATIVE).contains(ELLE));
+        assertTrue(personIndex.getPersonsWithPriority(new Priority(5)).contains(ELLE));
+    }
+
+    @Test
+    public void remove_unindexesPerson() {
+        uniquePersonList.add(ELLE);
+        uniquePersonList.remove(ELLE);
+        assertFalse(personIndex.getOrganNames().contains("HEART"));
+        assertTrue(personIndex.getOrganNamesContaining("HEA").isEmpty());
+        assertTrue(personIndex.getPersonsWithBloodType(BloodTypeEnum.AB_NEGATIVE).isEmpty());
+        assertTrue(personIndex.getPersonsWithPriority(new Priority(5)).isEmpty());
+    }
+
+    @Test
+    public void setPerson_reindexesPerson() {
+        uniquePersonList.add(ELLE);
+        Person editedElle = new PersonBuilder(ELLE).withOrgan("lung").withBloodType("O+").withPriority(1).build();
+        uniquePersonList.setPerson(ELLE, editedElle);
+        assertEquals(Collections.singleton("LUNG"), personIndex.getOrganNames());
+        assertEquals(Collections.singleton(editedElle), personIndex.getPersonsWithBloodType(BloodTypeEnum.O_POSITIVE));
+        assertTrue(personIndex.getPersonsWithBloodType(BloodTypeEnum.AB_NEGATIVE).isEmpty());
+        assertEquals(Collections.singleton(editedElle), personIndex.getPersonsWithPriority(new Priority(1)));
+    }
+
+    @Test
+    public void setPerson_renamedPerson_reindexesNameTokens() {
+        uniquePersonList.add(ELLE);
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Bob").build();
+        uniquePersonList.setPerson(ELLE, renamedElle);
+        assertTrue(personIndex.getPersonsWithNameToken("meyer").isEmpty());
+        assertEquals(Collections.singleton(renamedElle), personIndex.getPersonsWithNameToken("bob"));
+        assertEquals(Collections.singleton(renamedElle), personIndex.getAllPersons());
+    }
+
+    @Test
+    public void setPersons_replacesIndex() {
+        uniquePersonList.add(ELLE);
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(personIndex.getPersonsWithOrgan("HEART").isEmpty());
+        assertEquals(Collections.singleton(ALICE), personIndex.getPersonsWithPriority(new Priority(1)));
+    }
+
+    @Test
+    public void getPersonsWithOrgan_modifyResult_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ELLE);
+        assertThrows(UnsupportedOperationException.class, () -> personIndex.getPersonsWithOrgan("HEART").clear());
+    }
+
+    @Test
+    public void resolve_matchesTest() {
+        uniquePersonList.setPersons(UniquePersonListUtil.getShuffledTypicalPersons());
+        assertResolveMatchesTest(new OrganContainsSubstringPredicate("e"));
+        assertResolveMatchesTest(new OrganContainsSubstringPredicate("kidney"));
+        assertResolveMatchesTest(new OrganContainsSubstringPredicate("nothing"));
+        assertResolveMatchesTest(new OrganContainsSubstringPredicate("KiD"));
+        assertResolveMatchesTest(new OrganContainsSubstringPredicate("rne"));
+        assertResolveMatchesTest(new BloodTypeMatchesPredicate(
+                Arrays.asList(new BloodType("AB-"), new BloodType("b-"))));
+        assertResolveMatchesTest(new PriorityMatchesPredicate(Arrays.asList(new Priority(1), new Priority(5))));
+        assertResolveMatchesTest(new NameContainsKeywordsPredicate(Collections.emptyList()));
+        assertResolveMatchesTest(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertResolveMatchesTest(new NameContainsKeywordsPredicate(Arrays.asList("Daniel", "MEIER")));
+        assertResolveMatchesTest(new NameContainsKeywordsPredicate(Arrays.asList("Daniel", "Pauline")));
+        assertResolveMatchesTest(new NameContainsKeywordsPredicate(Arrays.asList("Dan")));
+        for (BloodTypeEnum bloodType : BloodTypeEnum.values()) {
+            assertResolveMatchesTest(new BloodTypeCompatibilityPredicate(new BloodType(bloodType.toString())));
+        }
+    }
+
+    private void assertResolveMatchesTest(IndexedPredicate predicate) {
+        Set<Person> expected = uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(predicate)
+                .collect(Collectors.toSet());
+        assertEquals(expected, predicate.resolve(personIndex));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    @Test
+    public void findContaining_shortSubstring_checksEveryValue() {
+        trigramIndex.add("KIDNEY");
+        trigramIndex.add("HEART");
+        assertEquals(Set.of("KIDNEY", "HEART"), trigramIndex.findContaining(""));
+        assertEquals(Set.of("KIDNEY"), trigramIndex.findContaining("KI"));
+        assertEquals(Collections.emptySet(), trigramIndex.findContaining("ZZ"));
+    }
+
+    @Test
+    public void findContaining_longSubstring_usesTrigrams() {
+        trigramIndex.add("KIDNEY");
+        trigramIndex.add("BONE MARROW");
+        trigramIndex.add("CORNEA");
+        assertEquals(Set.of("KIDNEY"), trigramIndex.findContaining("KIDNEY"));
+        assertEquals(Set.of("BONE MARROW"), trigramIndex.findContaining("NE M"));
+        assertEquals(Collections.emptySet(), trigramIndex.findContaining("KIDNEYS"));
+    }
+
+    @Test
+    public void findContaining_sharedTrigramsNotAdjacent_returnsNoMatch() {
+        trigramIndex.add("ABCXBCD");
+        assertEquals(Collections.emptySet(), trigramIndex.findContaining("ABCD"));
+    }
+
+    @Test
+    public void remove_removesValue() {
+        trigramIndex.add("KIDNEY");
+        trigramIndex.add("KIDNEY STONE");
+        trigramIndex.remove("KIDNEY");
+        assertEquals(Set.of("KIDNEY STONE"), trigramIndex.findContaining("KID"));
+        trigramIndex.clear();
+        assertEquals(Collections.emptySet(), trigramIndex.findContaining("K"));
+    }
+}
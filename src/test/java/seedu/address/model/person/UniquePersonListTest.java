@@ -7,14 +7,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -42,6 +47,32 @@ public class UniquePersonListTest {
         assertTrue(UniquePersonListUtil.isSorted(uniquePersonList));
     }
 
+    @Test
+    public void edit_maintains_sortedList() {
+        for (Person person : UniquePersonListUtil.getShuffledTypicalPersons()) {
+            uniquePersonList.add(person);
+        }
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withPriority(5).build());
+        assertTrue(UniquePersonListUtil.isSorted(uniquePersonList));
+    }
+
+    @Test
+    public void setPersons_list_maintains_sortedList() {
+        uniquePersonList.setPersons(UniquePersonListUtil.getShuffledTypicalPersons());
+        assertTrue(UniquePersonListUtil.isSorted(uniquePersonList));
+    }
+
+    @Test
+    public void remove_personComparingEqualToAnother_removesOnlyThatPerson() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("99999999").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceWithOtherPhone);
+        uniquePersonList.remove(aliceWithOtherPhone);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void contains_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
@@ -66,6 +97,14 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getSamePerson_personWithSameIdentityFieldsInList_returnsStoredPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(Optional.of(ALICE), uniquePersonList.getSamePerson(editedAlice));
+        assertEquals(Optional.empty(), uniquePersonList.getSamePerson(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -121,6 +160,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -138,6 +185,14 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -175,12 +230,157 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getVersion_changesOnEveryModification() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.asUnmodifiableObservableList().size();
+        assertEquals(version, uniquePersonList.getVersion());
+
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.getVersion() != version);
+    }
+
+    @Test
+    public void commitTransaction_changesAppliedInOneSortedChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        long version = uniquePersonList.getVersion();
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+        Person editedBenson = new PersonBuilder(BENSON).withPriority(5).build();
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(HOON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.remove(BOB);
+
+        // checks see the changes so far, while the list does not
+        assertTrue(uniquePersonList.contains(HOON));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(HOON));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(version, uniquePersonList.getVersion());
+
+        uniquePersonList.commitTransaction();
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(editedBenson, CARL, HOON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(UniquePersonListUtil.isSorted(uniquePersonList));
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniquePersonList.getVersion() != version);
+        assertEquals(expectedUniquePersonList.getPersonIndex().getAllPersons(),
+                uniquePersonList.getPersonIndex().getAllPersons());
+    }
+
+    @Test
+    public void rollbackTransaction_changesDiscarded() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        long version = uniquePersonList.getVersion();
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(HOON);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.rollbackTransaction();
+
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(HOON));
+        assertEquals(version, uniquePersonList.getVersion());
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getChanges_beforeFirstCleared_unknown() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.getChanges().isPresent());
+    }
+
+    @Test
+    public void getChanges_afterCleared_changesInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.clearChanges();
+        assertEquals(Optional.of(Collections.emptyList()), uniquePersonList.getChanges());
+
+        uniquePersonList.add(BENSON);
+        uniquePersonList.setPerson(ALICE, BOB);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Optional.of(Arrays.asList(PersonChange.added(BENSON), PersonChange.edited(ALICE, BOB),
+                PersonChange.removed(BENSON))), uniquePersonList.getChanges());
+    }
+
+    @Test
+    public void getChanges_setPersons_unknownUnlessEmptied() {
+        uniquePersonList.clearChanges();
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertFalse(uniquePersonList.getChanges().isPresent());
+
+        uniquePersonList.setPersons(Collections.emptyList());
+        uniquePersonList.add(BENSON);
+        assertEquals(Optional.of(Arrays.asList(PersonChange.cleared(), PersonChange.added(BENSON))),
+                uniquePersonList.getChanges());
+    }
+
+    @Test
+    public void getChanges_transaction_trackedOnlyWhenCommitted() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.clearChanges();
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(HOON);
+        uniquePersonList.rollbackTransaction();
+        assertEquals(Optional.of(Collections.emptyList()), uniquePersonList.getChanges());
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(HOON);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.of(Collections.emptyList()), uniquePersonList.getChanges());
+        uniquePersonList.commitTransaction();
+        assertEquals(Optional.of(Arrays.asList(PersonChange.added(HOON), PersonChange.removed(ALICE))),
+                uniquePersonList.getChanges());
+    }
+
+    @Test
+    public void getChanges_tooManyChanges_unknown() {
+        uniquePersonList.clearChanges();
+        for (int i = 0; i <= 512; i++) {
+            uniquePersonList.add(ALICE);
+            uniquePersonList.remove(ALICE);
+        }
+        assertFalse(uniquePersonList.getChanges().isPresent());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
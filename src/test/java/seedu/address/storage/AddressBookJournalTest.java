@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replay_missingJournal_addressBookUnchanged() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBookJournal.replay(testFolder.resolve("missing.journal"), addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+    }
+
+    @Test
+    public void replay_appendedRecords_appliedInOrder() throws Exception {
+        Path path = testFolder.resolve("addressbook.journal");
+        Person editedAlice = new PersonBuilder(ALICE).withPriority(5).build();
+        try (AddressBookJournal journal = AddressBookJournal.open(path)) {
+            journal.append(List.of(PersonChange.added(ALICE), PersonChange.added(BENSON)));
+            journal.append(List.of(PersonChange.edited(ALICE, editedAlice)));
+            journal.append(List.of(PersonChange.cleared()));
+            journal.append(List.of(PersonChange.added(CARL)));
+        }
+
+        AddressBook addressBook = new AddressBookBuilder().withPerson(BENSON).build();
+        AddressBookJournal.replay(path, addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(CARL).build(), addressBook);
+    }
+
+    @Test
+    public void replay_overStateThatAlreadyHasRecords_sameResult() throws Exception {
+        Path path = testFolder.resolve("addressbook.journal");
+        Person editedAlice = new PersonBuilder(ALICE).withPriority(5).build();
+        try (AddressBookJournal journal = AddressBookJournal.open(path)) {
+            journal.append(List.of(PersonChange.added(ALICE)));
+            journal.append(List.of(PersonChange.edited(ALICE, editedAlice)));
+            journal.append(List.of(PersonChange.added(BENSON), PersonChange.removed(BENSON)));
+        }
+
+        AddressBook addressBook = new AddressBookBuilder().withPerson(editedAlice).build();
+        AddressBookJournal.replay(path, addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(editedAlice).build(), addressBook);
+    }
+
+    @Test
+    public void append_edit_singleRecordWithTargetAndPerson() throws Exception {
+        Path path = testFolder.resolve("addressbook.journal");
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        try (AddressBookJournal journal = AddressBookJournal.open(path)) {
+            journal.append(List.of(PersonChange.edited(ALICE, renamedAlice)));
+        }
+        assertEquals(1, Files.readAllLines(path).size());
+
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        AddressBookJournal.replay(path, addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(renamedAlice).withPerson(BENSON).build(), addressBook);
+    }
+
+    @Test
+    public void replay_incompleteLastRecord_ignoredAndDiscardedOnOpen() throws Exception {
+        Path path = testFolder.resolve("addressbook.journal");
+        try (AddressBookJournal journal = AddressBookJournal.open(path)) {
+            journal.append(List.of(PersonChange.added(ALICE)));
+        }
+        long completeLength = Files.size(path);
+        Files.write(path, "{\"op\":\"add\",\"per".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        AddressBook addressBook = new AddressBook();
+        AddressBookJournal.replay(path, addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+
+        try (AddressBookJournal journal = AddressBookJournal.open(path)) {
+            assertEquals(completeLength, journal.size());
+            journal.append(List.of(PersonChange.added(BENSON)));
+        }
+        addressBook = new AddressBook();
+        AddressBookJournal.replay(path, addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), addressBook);
+    }
+
+    @Test
+    public void replay_invalidRecord_throwsIllegalValueException() throws Exception {
+        Path path = testFolder.resolve("addressbook.journal");
+        Files.write(path, "{\"op\":\"add\"}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalValueException.class, () -> AddressBookJournal.replay(path, new AddressBook()));
+
+        Files.write(path, "{\"op\":\"rename\"}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedJournalRecord.MESSAGE_UNKNOWN_OPERATION,
+                "rename"), () -> AddressBookJournal.replay(path, new AddressBook()));
+    }
+}
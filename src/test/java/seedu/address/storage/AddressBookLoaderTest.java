@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final int RECORD_COUNT = AddressBookLoader.PARALLEL_THRESHOLD * 4;
+
+    @Test
+    public void load_manyRecords_sortedAddressBook() throws Exception {
+        List<Integer> records = recordNumbers();
+        Collections.shuffle(records);
+        AddressBook addressBook = AddressBookLoader.load(records, AddressBookLoaderTest::toPerson);
+
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            expectedPersons.add(toPerson(i));
+        }
+        Collections.sort(expectedPersons);
+        assertEquals(expectedPersons, addressBook.getPersonList());
+    }
+
+    @Test
+    public void load_fewRecords_sameAsSequentialAdds() throws Exception {
+        AddressBook expected = new AddressBook();
+        getTypicalPersons().forEach(expected::addPerson);
+        assertEquals(expected, AddressBookLoader.load(getTypicalPersons(), person -> person));
+        assertEquals(new AddressBook(), AddressBookLoader.load(Collections.<Person>emptyList(), person -> person));
+    }
+
+    @Test
+    public void load_severalInvalidRecords_firstInOrderReported() {
+        List<Integer> records = recordNumbers();
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IllegalValueException.class, "invalid 100", () ->
+                    AddressBookLoader.load(records, record -> {
+                        if (record % 100 == 0 && record > 0) {
+                            throw new IllegalValueException("invalid " + record);
+                        }
+                        return toPerson(record);
+                    }));
+        }
+    }
+
+    @Test
+    public void load_duplicateBeforeInvalidRecord_duplicateReported() {
+        List<Integer> records = recordNumbers();
+        records.set(50, 10);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                AddressBookLoader.load(records, record -> {
+                    if (record == 500) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return toPerson(record);
+                }));
+    }
+
+    @Test
+    public void load_invalidBeforeDuplicateRecord_invalidReported() {
+        List<Integer> records = recordNumbers();
+        records.set(500, 10);
+        assertThrows(IllegalValueException.class, "invalid 50", () ->
+                AddressBookLoader.load(records, record -> {
+                    if (record == 50) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return toPerson(record);
+                }));
+    }
+
+    @Test
+    public void chunkedLoader_recordsOverSeveralChunks_sortedAddressBookAndRejectionsInOrder() {
+        List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < AddressBookLoader.CHUNK_SIZE * 2 + 10; i++) {
+            records.add(i);
+        }
+        records.set(AddressBookLoader.CHUNK_SIZE + 5, 3);
+        AddressBookLoader.ChunkedLoader<Integer> loader = new AddressBookLoader.ChunkedLoader<>(record -> {
+            if (record == 50 || record == AddressBookLoader.CHUNK_SIZE * 2 + 1) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return toPerson(record);
+        });
+        records.forEach(loader::add);
+        AddressBook addressBook = loader.finish();
+
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            if (i != 50 && i != AddressBookLoader.CHUNK_SIZE + 5 && i != AddressBookLoader.CHUNK_SIZE * 2 + 1) {
+                expectedPersons.add(toPerson(records.get(i)));
+            }
+        }
+        Collections.sort(expectedPersons);
+        assertEquals(expectedPersons, addressBook.getPersonList());
+
+        List<AddressBookLoader.Rejection<Integer>> rejections = loader.getRejections();
+        assertEquals(List.of(50, AddressBookLoader.CHUNK_SIZE + 5, AddressBookLoader.CHUNK_SIZE * 2 + 1),
+                rejections.stream().map(AddressBookLoader.Rejection::getIndex).collect(Collectors.toList()));
+        assertEquals(Integer.valueOf(3), rejections.get(1).getRecord());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, rejections.get(1).getMessage());
+    }
+
+    private static List<Integer> recordNumbers() {
+        List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(i);
+        }
+        return records;
+    }
+
+    private static Person toPerson(int record) {
+        return new PersonBuilder().withName("Person " + record).withPriority(record % 5 + 1).build();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookCodecTest {
+
+    @Test
+    public void encode_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                BinaryAddressBookCodec.encode(null, new ByteArrayOutputStream()));
+        assertThrows(NullPointerException.class, () -> BinaryAddressBookCodec.encode(new AddressBook(), null));
+    }
+
+    @Test
+    public void decode_encoded_sameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Emergency Contact Holder").withBloodType("AB+")
+                .withEmergencyContact("Next Of Kin", "91234567", "sister").build());
+        assertEquals(addressBook, decode(encode(addressBook)));
+        assertEquals(new AddressBook(), decode(encode(new AddressBook())));
+    }
+
+    @Test
+    public void encode_typicalAddressBook_smallerThanJson() throws Exception {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(getTypicalAddressBook(), json, true);
+        assertTrue(encode(getTypicalAddressBook()).length < json.size());
+    }
+
+    @Test
+    public void convert_jsonToBinaryToJson_lossless() throws Exception {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(getTypicalAddressBook(), json, true);
+
+        AddressBook fromJson = JsonAddressBookReader.read(new ByteArrayInputStream(json.toByteArray()));
+        ByteArrayOutputStream convertedJson = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(decode(encode(fromJson)), convertedJson, true);
+        assertTrue(Arrays.equals(json.toByteArray(), convertedJson.toByteArray()));
+    }
+
+    @Test
+    public void hasMagic_encodedAndJsonData_detectsOnlyEncoded() throws Exception {
+        byte[] data = encode(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookCodec.hasMagic(data, data.length));
+        assertFalse(BinaryAddressBookCodec.hasMagic(data, BinaryAddressBookCodec.MAGIC.length - 1));
+        assertFalse(BinaryAddressBookCodec.hasMagic("{\"persons\"".getBytes(), 10));
+    }
+
+    @Test
+    public void decode_notBinary_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, BinaryAddressBookCodec.MESSAGE_NOT_BINARY, () ->
+                decode("{\"persons\" : [ ] }".getBytes()));
+        assertThrows(IllegalValueException.class, BinaryAddressBookCodec.MESSAGE_NOT_BINARY, () ->
+                decode(BinaryAddressBookCodec.MAGIC));
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        byte[] data = encode(getTypicalAddressBook());
+        data[BinaryAddressBookCodec.MAGIC.length + 1] = 9;
+        assertThrows(IllegalValueException.class, String.format(BinaryAddressBookCodec.MESSAGE_UNSUPPORTED_VERSION,
+                9), () -> decode(data));
+    }
+
+    @Test
+    public void decode_corruptedBody_throwsIllegalValueException() throws Exception {
+        byte[] data = encode(getTypicalAddressBook());
+        data[data.length - 1] ^= 1;
+        assertThrows(IllegalValueException.class, BinaryAddressBookCodec.MESSAGE_CHECKSUM_MISMATCH, () ->
+                decode(data));
+        assertThrows(IllegalValueException.class, BinaryAddressBookCodec.MESSAGE_CHECKSUM_MISMATCH, () ->
+                decode(Arrays.copyOf(encode(getTypicalAddressBook()), data.length - 1)));
+    }
+
+    private static byte[] encode(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encode(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static AddressBook decode(byte[] data) throws IllegalValueException {
+        return BinaryAddressBookCodec.decode(ByteBuffer.wrap(data));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookPreviewReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.dat");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void readFirst_binaryFile_firstPersonsInOrder() throws Exception {
+        AddressBook firstPersons = BinaryAddressBookPreviewReader.readFirst(filePath, 3);
+        assertEquals(getTypicalAddressBook().getPersonList().subList(0, 3), firstPersons.getPersonList());
+        assertEquals(new AddressBook(), BinaryAddressBookPreviewReader.readFirst(filePath, 0));
+        assertEquals(getTypicalAddressBook(), BinaryAddressBookPreviewReader.readFirst(filePath, 100));
+        assertThrows(IllegalArgumentException.class, () -> BinaryAddressBookPreviewReader.readFirst(filePath, -1));
+    }
+
+    @Test
+    public void readFirst_personsPastInitialRead_firstPersonsInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPriority(i % 5 + 1).build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertTrue(Files.size(filePath) > BinaryAddressBookPreviewReader.INITIAL_READ_LENGTH * 2);
+
+        assertEquals(addressBook.getPersonList().subList(0, 900),
+                BinaryAddressBookPreviewReader.readFirst(filePath, 900).getPersonList());
+        assertEquals(addressBook, BinaryAddressBookPreviewReader.readFirst(filePath, 1000));
+    }
+
+    @Test
+    public void readFirst_truncatedFile_throwsIllegalValueException() throws Exception {
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 10));
+
+        assertThrows(IllegalValueException.class, BinaryAddressBookCodec.MESSAGE_TRUNCATED, () ->
+                BinaryAddressBookPreviewReader.readFirst(filePath, 100));
+    }
+
+    @Test
+    public void readFirst_corruptedTail_firstPersonsStillRead() throws Exception {
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length - 1] ^= 1;
+        Files.write(filePath, data);
+
+        assertEquals(getTypicalAddressBook().getPersonList().subList(0, 1),
+                BinaryAddressBookPreviewReader.readFirst(filePath, 1).getPersonList());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readFirst_jsonFile_throwsIllegalValueException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(IllegalValueException.class, BinaryAddressBookCodec.MESSAGE_NOT_BINARY, () ->
+                BinaryAddressBookPreviewReader.readFirst(filePath, 1));
+    }
+}
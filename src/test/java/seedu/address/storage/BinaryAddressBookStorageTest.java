@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.dat")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.dat");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        long jsonSize = Files.size(filePath);
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(binaryStorage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        binaryStorage.saveAddressBook(addressBook);
+        assertTrue(Files.size(filePath) < jsonSize);
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_recoversPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.dat");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length - 1] ^= 1;
+        Files.write(filePath, data);
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        Files.delete(FileUtil.getBackupPath(filePath, 1));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBookPreview_binaryFile_firstPersonsOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.dat");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertFalse(storage.readAddressBookPreview(2).isPresent());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList().subList(0, 2),
+                storage.readAddressBookPreview(2).get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBookPreview_jsonFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBookPreview(2).isPresent());
+    }
+
+    @Test
+    public void constructor_negativeBackupCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.dat"), -1));
+    }
+}
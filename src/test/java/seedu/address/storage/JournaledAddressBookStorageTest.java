@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final long NO_COMPACTION = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        storage = newStorage(NO_COMPACTION);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        JsonAddressBookStorage snapshotStorage = new JsonAddressBookStorage(filePath);
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new JournaledAddressBookStorage(snapshotStorage, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new JournaledAddressBookStorage(snapshotStorage, 0, 0));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsOnlyChanges() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        long snapshotSize = Files.size(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPriority(5).build();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertTrue(Files.size(journalPath) < snapshotSize);
+        assertEquals(snapshotSize + Files.size(journalPath), storage.getBytesWritten());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_doesNotAppend() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_changesUnknown_writesSnapshot() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+        AddressBook addressBook = new AddressBook(getTypicalAddressBook());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_savedTwice_appendsOnlyChangesSinceMarkedSaved() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.markSaved();
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_cleared_recordsClear() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBook(addressBook);
+        addressBook.markSaved();
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        storage.close();
+        storage = newStorage(1);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        assertFalse(Files.exists(journalPath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getCompactingJournalPath(filePath)));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_sameAddressBook() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(HOON, new PersonBuilder(HOON).withPriority(4).build());
+        storage.saveAddressBook(addressBook);
+
+        // As if the app stopped after writing a new snapshot but before deleting the journal it supersedes.
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_invalidJournal_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, "{\"op\":\"unknown\"}\n".getBytes());
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotThere() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(otherFilePath)));
+    }
+
+    @Test
+    public void readAddressBookPreview_journalPresent_emptyResult() throws Exception {
+        storage.close();
+        storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath), 0, NO_COMPACTION);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList().subList(0, 1),
+                storage.readAddressBookPreview(1).get().getPersonList());
+
+        AddressBook addressBook = readForEditing();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.readAddressBookPreview(1).isPresent());
+    }
+
+    @Test
+    public void salvageAddressBook_damagedSnapshot_journalReplayedAndSnapshotRewritten() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = readForEditing();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        String snapshot = Files.readString(filePath);
+        Files.writeString(filePath, snapshot.replaceFirst("\"phone\" : \"\\d+\"", "\"phone\" : \"abc\""));
+        storage = newStorage(NO_COMPACTION);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        SalvageResult result = storage.salvageAddressBook().get();
+        addressBook.removePerson(getTypicalAddressBook().getPersonList().get(0));
+        assertEquals(addressBook, result.getAddressBook());
+        assertEquals(1, result.getQuarantinedCount());
+
+        storage.saveAddressBook(result.getAddressBook());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private JournaledAddressBookStorage newStorage(long compactionThresholdBytes) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 0, compactionThresholdBytes);
+    }
+
+    /**
+     * Reads the address book from {@code storage}, ready to have its changes saved back.
+     */
+    private AddressBook readForEditing() throws Exception {
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.markSaved();
+        return addressBook;
+    }
+
+    private AddressBook readWithNewStorage() throws Exception {
+        JournaledAddressBookStorage otherStorage = newStorage(NO_COMPACTION);
+        try {
+            return new AddressBook(otherStorage.readAddressBook().get());
+        } finally {
+            otherStorage.close();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path INVALID_AND_VALID_PERSON_FILE = Paths.get("src", "test", "data",
+            "JsonAddressBookStorageTest", "invalidAndValidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonAddressBookReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_noPersonsField_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(toStream("{ \"other\": [1, {\"a\": 2}] }")));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("[]")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("{ \"persons\": {} }")));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(toStream("{ \"persons\": [")));
+    }
+
+    @Test
+    public void read_personNotJsonObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(toStream("{ \"persons\": [1] }")));
+    }
+
+    @Test
+    public void salvage_validAndInvalidPersons_invalidQuarantinedWithPosition() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_AND_VALID_PERSON_FILE)) {
+            JsonAddressBookReader.SalvagedAddressBook salvaged = JsonAddressBookReader.salvage(in);
+            assertEquals(1, salvaged.getAddressBook().getPersonList().size());
+            assertEquals("Valid Person", salvaged.getAddressBook().getPersonList().get(0).getName().fullName);
+
+            List<QuarantinedRecord> quarantined = salvaged.getQuarantinedRecords();
+            assertEquals(1, quarantined.size());
+            assertEquals(10, quarantined.get(0).getLine());
+            assertEquals(6, quarantined.get(0).getColumn());
+            assertEquals("Person With Invalid Phone Field", quarantined.get(0).getRecord().get("name").asText());
+        }
+    }
+
+    @Test
+    public void salvage_duplicatePersons_laterDuplicatesQuarantined() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            JsonAddressBookReader.SalvagedAddressBook salvaged = JsonAddressBookReader.salvage(in);
+            assertEquals(1, salvaged.getAddressBook().getPersonList().size());
+            assertEquals(1, salvaged.getQuarantinedRecords().size());
+            assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                    salvaged.getQuarantinedRecords().get(0).getError());
+        }
+    }
+
+    @Test
+    public void salvage_typicalPersonsFile_nothingQuarantined() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            JsonAddressBookReader.SalvagedAddressBook salvaged = JsonAddressBookReader.salvage(in);
+            assertEquals(TypicalPersons.getTypicalAddressBook(), salvaged.getAddressBook());
+            assertTrue(salvaged.getQuarantinedRecords().isEmpty());
+        }
+    }
+
+    @Test
+    public void salvage_truncatedFile_personsBeforeErrorKept() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), out, false);
+        String json = out.toString(StandardCharsets.UTF_8);
+        String truncated = json.substring(0, json.indexOf("\"name\" : \"Carl"));
+
+        JsonAddressBookReader.SalvagedAddressBook salvaged = JsonAddressBookReader.salvage(toStream(truncated));
+        assertEquals(TypicalPersons.getTypicalPersons().subList(0, 2), salvaged.getAddressBook().getPersonList());
+        assertEquals(1, salvaged.getQuarantinedRecords().size());
+        assertNull(salvaged.getQuarantinedRecords().get(0).getRecord());
+        assertFalse(salvaged.isParsedInFull());
+        assertThrows(IOException.class, salvaged::requireComplete);
+    }
+
+    @Test
+    public void salvage_invalidRecordsInSeveralChunks_onlyRejectedRecordsQuarantined() throws Exception {
+        StringBuilder json = new StringBuilder("{ \"persons\": [");
+        int recordCount = AddressBookLoader.CHUNK_SIZE + 10;
+        for (int i = 0; i < recordCount; i++) {
+            String phone = i % 500 == 7 ? "abc" : String.valueOf(90000000 + i);
+            json.append(i == 0 ? "" : ",").append("{\"name\":\"Person ").append(i).append("\",\"phone\":\"")
+                    .append(phone).append("\",\"email\":\"a@b.com\",\"address\":\"x\",\"organ\":\"kidney\",")
+                    .append("\"blood type\":\"O+\",\"priority\":\"1\"}");
+        }
+        JsonAddressBookReader.SalvagedAddressBook salvaged =
+                JsonAddressBookReader.salvage(toStream(json.append("] }").toString()));
+
+        assertEquals(recordCount - 3, salvaged.getAddressBook().getPersonList().size());
+        assertEquals(List.of("Person 7", "Person 507", "Person 1007"), salvaged.getQuarantinedRecords().stream()
+                .map(record -> record.getRecord().get("name").asText()).collect(Collectors.toList()));
+        assertTrue(salvaged.isParsedInFull());
+        assertThrows(IllegalValueException.class, salvaged::requireComplete);
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,17 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +91,79 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_fileCorrupted_previousVersionRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, 2);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(Optional.empty(), jsonAddressBookStorage.getRecoveredBackupPath());
+
+        Files.write(filePath, "{ \"persons\": [".getBytes());
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(Optional.of(FileUtil.getBackupPath(filePath, 1)), jsonAddressBookStorage.getRecoveredBackupPath());
+
+        Files.delete(filePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(Optional.of(FileUtil.getBackupPath(filePath, 1)), jsonAddressBookStorage.getRecoveredBackupPath());
+    }
+
+    @Test
+    public void readAddressBook_fileCorruptedWithoutBackups_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        Files.write(filePath, "{ \"persons\": [".getBytes());
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void salvageAddressBook_invalidAndValidPersons_validKeptInvalidQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        SalvageResult result = jsonAddressBookStorage.salvageAddressBook().get();
+        assertEquals(1, result.getSalvagedCount());
+        assertEquals(1, result.getQuarantinedCount());
+        Path quarantineFilePath = FileAddressBookStorage.getQuarantineFilePath(filePath);
+        assertEquals(quarantineFilePath, result.getQuarantineFilePath().get());
+
+        String quarantine = Files.readString(quarantineFilePath);
+        assertTrue(quarantine.contains("\"line\" : 10"));
+        assertTrue(quarantine.contains("Person With Invalid Phone Field"));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonWithBackup_failsAndSalvagesWhatWasRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, 1);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), filePath,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        // the backup is not read, as salvaging the file loses less than going back to it
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+
+        // the salvage reuses what the read found, rather than parsing the file again
+        Files.delete(filePath);
+        SalvageResult result = jsonAddressBookStorage.salvageAddressBook().get();
+        assertEquals(1, result.getSalvagedCount());
+        assertEquals(1, result.getQuarantinedCount());
+    }
+
+    @Test
+    public void salvageAddressBook_missingOrBinaryFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertFalse(new JsonAddressBookStorage(filePath).salvageAddressBook().isPresent());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(new JsonAddressBookStorage(filePath).salvageAddressBook().isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(null, new ByteArrayOutputStream(), true));
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookWriter.write(new AddressBook(), null, true));
+    }
+
+    @Test
+    public void write_compact_noWhitespaceBetweenTokens() throws Exception {
+        String json = write(getTypicalAddressBook(), true);
+        assertFalse(json.contains("\n"));
+        assertTrue(json.startsWith("{\"persons\":[{\"name\":"));
+    }
+
+    @Test
+    public void write_notCompact_indented() throws Exception {
+        assertTrue(write(getTypicalAddressBook(), false).contains("\n"));
+    }
+
+    @Test
+    public void write_readBack_sameAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Emergency Contact Holder")
+                .withEmergencyContact("Next Of Kin", "91234567", "sister").build());
+
+        for (boolean isCompact : new boolean[] {true, false}) {
+            String json = write(addressBook, isCompact);
+            assertEquals(addressBook, JsonAddressBookReader.read(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+            assertEquals(addressBook, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class)
+                    .toModelType());
+        }
+    }
+
+    @Test
+    public void writePerson_everyField_readBackByJsonAdaptedPerson() throws Exception {
+        Person person = new PersonBuilder().withName("Every Field").withPhone("81234567")
+                .withEmail("every@field.com").withAddress("1 Field Road").withOrgan("liver").withBloodType("AB-")
+                .withPriority(3).withTags("urgent", "transfer")
+                .withEmergencyContact("Next Of Kin", "91234567", "sister").build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, true)) {
+            JsonAddressBookWriter.writePerson(generator, person);
+        }
+        String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(person, JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType());
+    }
+
+    private static String write(ReadOnlyAddressBook addressBook, boolean isCompact) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, isCompact);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
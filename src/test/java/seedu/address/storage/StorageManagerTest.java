@@ -1,10 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +25,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonChange;
 
 public class StorageManagerTest {
 
@@ -65,4 +77,141 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_synchronous_reportsSuccess() throws Exception {
+        List<SaveResult> results = new ArrayList<>();
+        storageManager.setSaveResultListener(results::add);
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals(Files.size(storageManager.getAddressBookFilePath()), results.get(0).getBytesWritten());
+        assertEquals(results.get(0).getBytesWritten(), storageManager.getBytesWritten());
+    }
+
+    @Test
+    public void saveAddressBook_asynchronous_coalescesSavesUntilFlushed() throws Exception {
+        Path filePath = getTempFilePath("async");
+        StorageManager asyncStorageManager = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        List<SaveResult> results = Collections.synchronizedList(new ArrayList<>());
+        asyncStorageManager.setSaveResultListener(results::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        assertFalse(Files.exists(filePath));
+
+        asyncStorageManager.close();
+        assertEquals(1, results.size());
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        assertEquals(expected, new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_asynchronous_coalescedSaveHasChangesOfEverySave() throws Exception {
+        List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        StorageManager asyncStorageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("changes")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                saved.add(addressBook);
+            }
+        }, new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.markSaved();
+        addressBook.addPerson(HOON);
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBook.markSaved();
+        addressBook.addPerson(IDA);
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBook.markSaved();
+        asyncStorageManager.close();
+
+        assertEquals(1, saved.size());
+        assertEquals(addressBook.getPersonList(), saved.get(0).getPersonList());
+        assertEquals(Optional.of(List.of(PersonChange.added(HOON), PersonChange.added(IDA))),
+                saved.get(0).getChangesSinceLastSave());
+    }
+
+    @Test
+    public void saveAddressBook_asynchronousFailure_reportedAndRetriedOnFlush() throws Exception {
+        FailingAddressBookStorage failingStorage = new FailingAddressBookStorage(getTempFilePath("failing"));
+        StorageManager asyncStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        List<SaveResult> results = Collections.synchronizedList(new ArrayList<>());
+        asyncStorageManager.setSaveResultListener(results::add);
+
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "Disk full", asyncStorageManager::flush);
+        assertFalse(results.get(0).isSuccessful());
+
+        failingStorage.isFailing = false;
+        asyncStorageManager.close();
+        assertTrue(results.get(results.size() - 1).isSuccessful());
+        assertEquals(getTypicalAddressBook(), new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_asynchronousFailure_retriedWithoutFlush() throws Exception {
+        FailingAddressBookStorage failingStorage = new FailingAddressBookStorage(getTempFilePath("failing"));
+        StorageManager asyncStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 0);
+        List<SaveResult> results = Collections.synchronizedList(new ArrayList<>());
+        asyncStorageManager.setSaveResultListener(result -> {
+            results.add(result);
+            failingStorage.isFailing = false;
+        });
+
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        long deadline = System.currentTimeMillis() + StorageManager.INITIAL_RETRY_DELAY_MILLIS * 10;
+        while (results.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).isSuccessful());
+        assertTrue(results.get(1).isSuccessful());
+        assertEquals(getTypicalAddressBook(), new AddressBook(asyncStorageManager.readAddressBook().get()));
+        asyncStorageManager.close();
+    }
+
+    @Test
+    public void close_pendingSnapshotNotWritten_throwsIoException() throws Exception {
+        StorageManager asyncStorageManager = new StorageManager(
+                new FailingAddressBookStorage(getTempFilePath("failing")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "Disk full", asyncStorageManager::close);
+    }
+
+    @Test
+    public void getRetryDelayMillis_doublesUpToMaximum() {
+        assertEquals(StorageManager.INITIAL_RETRY_DELAY_MILLIS, StorageManager.getRetryDelayMillis(1));
+        assertEquals(StorageManager.INITIAL_RETRY_DELAY_MILLIS * 4, StorageManager.getRetryDelayMillis(3));
+        assertEquals(StorageManager.MAX_RETRY_DELAY_MILLIS, StorageManager.getRetryDelayMillis(Integer.MAX_VALUE));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that fails to save while {@code isFailing} is true.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile boolean isFailing = true;
+
+        FailingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("Disk full");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
 }